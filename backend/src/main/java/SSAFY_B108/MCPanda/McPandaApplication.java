@@ -2,10 +2,12 @@ package SSAFY_B108.MCPanda;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 
 @SpringBootApplication
+@EnableScheduling
 @OpenAPIDefinition(
     info = @Info(
         title = "MCPanda API",
@@ -5,12 +5,14 @@ import SSAFY_B108.MCPanda.domain.article.dto.ArticlePageResponseDto;
 import SSAFY_B108.MCPanda.domain.article.dto.ArticleUpdateRequestDto;
 import SSAFY_B108.MCPanda.domain.article.entity.Article;
 import SSAFY_B108.MCPanda.domain.article.repository.ArticleRepository;
-import SSAFY_B108.MCPanda.domain.article.repository.RecommendationRepository;
 import SSAFY_B108.MCPanda.domain.article.entity.Recommendation;
 import SSAFY_B108.MCPanda.domain.article.dto.ArticleRecommendResponseDto;
 import SSAFY_B108.MCPanda.global.exception.ArticleNotFoundException;
 import SSAFY_B108.MCPanda.global.exception.UnauthorizedOperationException;
-import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
+import SSAFY_B108.MCPanda.global.util.PageSizeLimits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +34,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.*;
 import SSAFY_B108.MCPanda.domain.article.service.ArticleService;
+import SSAFY_B108.MCPanda.domain.article.service.RecommendationService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -42,16 +46,17 @@ import java.util.Map;
 
 @Tag(name = "게시글 API", description = "게시글 CRUD 및 추천 기능을 위한 API 명세")
 @RestController
+@Validated
 @RequestMapping("/api/articles")
 public class ArticleController {
 
     private final ArticleService articleService;
-    private final RecommendationRepository recommendationRepository;
+    private final RecommendationService recommendationService;
 
     @Autowired
-    public ArticleController(ArticleService articleService, RecommendationRepository recommendationRepository) {
+    public ArticleController(ArticleService articleService, RecommendationService recommendationService) {
         this.articleService = articleService;
-        this.recommendationRepository = recommendationRepository;
+        this.recommendationService = recommendationService;
     }
 
     @Operation(
@@ -67,12 +72,12 @@ public class ArticleController {
     @PostMapping
     public ResponseEntity<?> createArticle(
             @RequestBody ArticleCreateRequestDto requestDto,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         if (loggedInMember == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
-        String memberId = loggedInMember.getId().toString();
+        String memberId = loggedInMember.getMemberId();
         String nickname = loggedInMember.getNickname();
 
         Article createdArticle = articleService.createArticle(requestDto, memberId, nickname);
@@ -93,7 +98,7 @@ public class ArticleController {
     public ResponseEntity<?> findArticleById(
             @Parameter(description = "조회할 게시글의 고유 ID", required = true)
             @PathVariable String articleId,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         Optional<Article> articleOptional = articleService.findArticleById(articleId);
         if (articleOptional.isPresent()) {
@@ -102,8 +107,8 @@ public class ArticleController {
             // 로그인한 사용자의 추천 상태 확인
             boolean isLiked = false;
             if (loggedInMember != null) {
-                String memberId = loggedInMember.getId().toString();
-                isLiked = recommendationRepository.findByMemberIdAndArticleId(memberId, articleId).isPresent();
+                String memberId = loggedInMember.getMemberId();
+                isLiked = recommendationService.isLiked(memberId, articleId);
             }
             
             // 응답에 게시글과 추천 상태를 함께 포함
@@ -119,18 +124,32 @@ public class ArticleController {
 
     @Operation(
             summary = "게시글 전체 목록 조회",
-            description = "게시글 전체 목록을 검색, 정렬, 페이징, MCP 카테고리로 필터링하여 조회합니다."
+            description = "게시글 전체 목록을 검색, 정렬, 페이징, MCP 카테고리로 필터링하여 조회합니다." +
+                          " searchMode=text 로 요청하면 텍스트 인덱스 기반으로 관련도순 검색합니다." +
+                          " cursor 파라미터를 전달하면(첫 페이지는 빈 값) 전체 개수 없이 nextCursor 기반으로 다음 페이지를 조회합니다."
     )
     @ApiResponses(value = { /* ... */ })
     @GetMapping
     public ResponseEntity<ArticlePageResponseDto> findAllArticles(
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "contains") String searchMode,
             @RequestParam(defaultValue = "recommend") String type,
             @RequestParam(required = false) String mcpCategory,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @Parameter(description = "페이지 당 게시글 수 (1~100)")
+            @RequestParam(defaultValue = "10") @Min(PageSizeLimits.MIN) @Max(PageSizeLimits.MAX) int size,
+            @Parameter(description = "커서 페이지네이션용 커서 (첫 페이지는 빈 값, 이후에는 이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
-        ArticlePageResponseDto articlePageResponseDto = articleService.findAllArticles(search, type, mcpCategory, page, size);
+        String memberId = loggedInMember != null ? loggedInMember.getMemberId() : null;
+
+        ArticlePageResponseDto articlePageResponseDto;
+        if (cursor != null) {
+            articlePageResponseDto = articleService.findArticlesByCursor(search, searchMode, type, mcpCategory, cursor, size, memberId);
+        } else {
+            articlePageResponseDto = articleService.findAllArticles(search, searchMode, type, mcpCategory, page, size, memberId);
+        }
         return ResponseEntity.ok(articlePageResponseDto);
     }
 
@@ -148,11 +167,11 @@ public class ArticleController {
     public ResponseEntity<?> updateArticle(
             @PathVariable String articleId,
             @RequestBody ArticleUpdateRequestDto requestDto,
-            @AuthenticationPrincipal Member loggedInMember) {
+            @AuthenticationPrincipal MemberPrincipal loggedInMember) {
         if (loggedInMember == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
-        String loggedInMemberId = loggedInMember.getId().toString();
+        String loggedInMemberId = loggedInMember.getMemberId();
         try {
             Article updatedArticle = articleService.updateArticle(articleId, requestDto, loggedInMemberId);
             return ResponseEntity.ok(updatedArticle);
@@ -176,11 +195,11 @@ public class ArticleController {
     @DeleteMapping("/{articleId}")
     public ResponseEntity<?> deleteArticle(
             @PathVariable String articleId,
-            @AuthenticationPrincipal Member loggedInMember) {
+            @AuthenticationPrincipal MemberPrincipal loggedInMember) {
         if (loggedInMember == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
-        String loggedInMemberId = loggedInMember.getId().toString();
+        String loggedInMemberId = loggedInMember.getMemberId();
         try {
             articleService.deleteArticle(articleId, loggedInMemberId);
             return ResponseEntity.ok().body(java.util.Map.of("message", "게시글이 성공적으로 삭제되었습니다."));
@@ -215,13 +234,13 @@ public class ArticleController {
     public ResponseEntity<?> recommendArticle(
             @Parameter(description = "추천/추천 취소할 게시글의 고유 ID", required = true, example = "60c72b2f9b1d8c1f7c8e4f2a")
             @PathVariable String articleId,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         if (loggedInMember == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
         }
 
-        String memberId = loggedInMember.getId().toString();
+        String memberId = loggedInMember.getMemberId();
 
         try {
             ArticleRecommendResponseDto responseDto = articleService.recommendOrUnrecommendArticle(articleId, memberId);
@@ -1,12 +1,14 @@
 package SSAFY_B108.MCPanda.domain.article.controller;
 
+import SSAFY_B108.MCPanda.domain.article.dto.CommentPageResponseDto;
 import SSAFY_B108.MCPanda.domain.article.dto.CommentRequestDto;
 import SSAFY_B108.MCPanda.domain.article.dto.CommentResponseDto;
 import SSAFY_B108.MCPanda.domain.article.service.CommentService;
-import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
 import SSAFY_B108.MCPanda.global.exception.ArticleNotFoundException;
 import SSAFY_B108.MCPanda.global.exception.CommentNotFoundException;
 import SSAFY_B108.MCPanda.global.exception.UnauthorizedOperationException;
+import SSAFY_B108.MCPanda.global.util.PageSizeLimits;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,16 +16,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
-@Tag(name = "댓글 API", description = "댓글 작성 및 삭제를 위한 API 명세")
+@Tag(name = "댓글 API", description = "댓글 조회, 작성 및 삭제를 위한 API 명세")
 @RestController
+@Validated
 @RequestMapping("/api/comments")
 public class CommentController {
 
@@ -34,6 +40,34 @@ public class CommentController {
         this.commentService = commentService;
     }
 
+    @Operation(
+            summary = "댓글 목록 조회",
+            description = "게시글의 댓글을 작성순으로 조회합니다. 다음 페이지는 이전 응답의 nextCursor를 cursor로 전달하여 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommentPageResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
+    })
+    @GetMapping("/{article_pk}")
+    public ResponseEntity<?> findComments(
+            @Parameter(description = "댓글을 조회할 게시글의 ID", required = true)
+            @PathVariable("article_pk") String articleId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 당 댓글 수 (1~100)")
+            @RequestParam(defaultValue = "20") @Min(PageSizeLimits.MIN) @Max(PageSizeLimits.MAX) int size
+    ) {
+        try {
+            CommentPageResponseDto responseDto = commentService.findComments(articleId, cursor, size);
+            return ResponseEntity.ok(responseDto);
+        } catch (ArticleNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @Operation(
             summary = "댓글 작성",
             description = "게시글에 새로운 댓글을 작성합니다. 로그인이 필요한 기능입니다."
@@ -50,7 +84,7 @@ public class CommentController {
             @Parameter(description = "댓글을 작성할 게시글의 ID", required = true)
             @PathVariable("article_pk") String articleId,
             @RequestBody CommentRequestDto requestDto,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         // 로그인 확인
         if (loggedInMember == null) {
@@ -59,7 +93,7 @@ public class CommentController {
 
         try {
             // 댓글 작성 서비스 호출
-            String memberId = loggedInMember.getId().toString();
+            String memberId = loggedInMember.getMemberId();
             String nickname = loggedInMember.getNickname();
             CommentResponseDto responseDto = commentService.createComment(articleId, requestDto, memberId, nickname);
             
@@ -87,7 +121,7 @@ public class CommentController {
             @PathVariable("article_pk") String articleId,
             @Parameter(description = "삭제할 댓글의 ID", required = true)
             @PathVariable("comment_pk") String commentId,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         // 로그인 확인
         if (loggedInMember == null) {
@@ -96,7 +130,7 @@ public class CommentController {
 
         try {
             // 댓글 삭제 서비스 호출
-            String memberId = loggedInMember.getId().toString();
+            String memberId = loggedInMember.getMemberId();
             commentService.deleteComment(articleId, commentId, memberId);
             
             // 204 No Content 또는 메시지 포함 응답
@@ -2,7 +2,7 @@ package SSAFY_B108.MCPanda.domain.article.controller;
 
 import SSAFY_B108.MCPanda.domain.article.entity.MCP;
 import SSAFY_B108.MCPanda.domain.article.service.MCPService;
-import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
 import SSAFY_B108.MCPanda.domain.article.dto.MCPCreateRequestDto;
 import SSAFY_B108.MCPanda.domain.article.dto.MCPResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,13 +41,14 @@ public class MCPController {
             @ApiResponse(responseCode = "201", description = "MCP 등록 성공",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = MCPResponseDto.class))),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 카테고리"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "권한 부족")
     })
     @PostMapping
     public ResponseEntity<?> registerMCP(
             @RequestBody MCPCreateRequestDto requestDto,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         // 로그인 체크
         if (loggedInMember == null) {
@@ -73,8 +74,7 @@ public class MCPController {
     })
     @GetMapping
     public ResponseEntity<List<MCPResponseDto>> getAllMCPs() {
-        List<MCP> mcps = mcpService.getAllMCPs();
-        List<MCPResponseDto> responseDtos = mcpService.convertToDtoList(mcps);
+        List<MCPResponseDto> responseDtos = mcpService.getAllMCPDtos();
         return ResponseEntity.ok(responseDtos);
     }
 
@@ -113,7 +113,7 @@ public class MCPController {
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteMCP(
             @PathVariable String id,
-            @Parameter(hidden = true) @AuthenticationPrincipal Member loggedInMember
+            @Parameter(hidden = true) @AuthenticationPrincipal MemberPrincipal loggedInMember
     ) {
         // 로그인 체크
         if (loggedInMember == null) {
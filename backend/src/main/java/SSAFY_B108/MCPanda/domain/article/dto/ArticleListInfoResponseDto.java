@@ -1,5 +1,6 @@
 package SSAFY_B108.MCPanda.domain.article.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.Map; // Article 엔티티의 mcps가 Map<String, Object>이므로 사용
@@ -34,6 +35,9 @@ public class ArticleListInfoResponseDto {
     @Schema(description = "댓글 수", example = "3")
     private int commentsCount;
 
+    @Schema(description = "로그인한 사용자의 추천 여부 (비로그인 시 false)", example = "false")
+    private boolean liked;
+
     // 기본 생성자
     public ArticleListInfoResponseDto() {
     }
@@ -78,4 +82,10 @@ public class ArticleListInfoResponseDto {
 
     public int getCommentsCount() { return commentsCount; }
     public void setCommentsCount(int commentsCount) { this.commentsCount = commentsCount; }
+
+    // 접근자에 이름을 지정해야 "isLiked" 하나로만 직렬화됨 (필드에 지정하면 "liked"와 함께 두 번 출력)
+    @JsonProperty("isLiked")
+    public boolean isLiked() { return liked; }
+    @JsonProperty("isLiked")
+    public void setLiked(boolean liked) { this.liked = liked; }
 }
@@ -19,6 +19,15 @@ public class ArticlePageResponseDto {
     @Schema(description = "현재 페이지의 게시글 목록")
     private List<ArticleListInfoResponseDto> articles; // 위에서 만든 ArticleListInfoResponseDto의 리스트
 
+    @Schema(description = "전체 게시글 수가 캐시 또는 추정치에서 온 근사값인지 여부", example = "false")
+    private boolean approximate;
+
+    @Schema(description = "다음 페이지 조회용 커서 (커서 모드에서만 사용, 다음 페이지가 없으면 null)", example = "MTJ8MjAyNS0wNS0xNFQxMDowMDowMHw2ODI0...")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부 (커서 모드에서만 사용)", example = "true")
+    private boolean hasNext;
+
     // 기본 생성자
     public ArticlePageResponseDto() {
     }
@@ -31,6 +40,17 @@ public class ArticlePageResponseDto {
         this.articles = articles;
     }
 
+    /**
+     * 커서 페이지네이션 응답 생성
+     * 커서 모드에서는 전체 개수를 세지 않으므로 page/totalPages/totalArticles는 -1로 채웁니다.
+     */
+    public static ArticlePageResponseDto ofCursor(List<ArticleListInfoResponseDto> articles, String nextCursor) {
+        ArticlePageResponseDto dto = new ArticlePageResponseDto(-1, -1, -1L, articles);
+        dto.nextCursor = nextCursor;
+        dto.hasNext = nextCursor != null;
+        return dto;
+    }
+
     // Getters and Setters
     public int getPage() { return page; }
     public void setPage(int page) { this.page = page; }
@@ -43,4 +63,13 @@ public class ArticlePageResponseDto {
 
     public List<ArticleListInfoResponseDto> getArticles() { return articles; }
     public void setArticles(List<ArticleListInfoResponseDto> articles) { this.articles = articles; }
+
+    public boolean isApproximate() { return approximate; }
+    public void setApproximate(boolean approximate) { this.approximate = approximate; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
 }
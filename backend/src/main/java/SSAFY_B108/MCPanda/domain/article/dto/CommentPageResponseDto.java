@@ -0,0 +1,47 @@
+package SSAFY_B108.MCPanda.domain.article.dto;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Comment;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "댓글 목록 커서 페이징 응답 DTO")
+public class CommentPageResponseDto {
+
+    @Schema(description = "현재 페이지의 댓글 목록 (작성순)")
+    private List<Comment> comments;
+
+    @Schema(description = "게시글의 전체 댓글 수", example = "42")
+    private long totalComments;
+
+    @Schema(description = "다음 페이지 조회용 커서 (다음 페이지가 없으면 null)", example = "Y29tbWVudHwyMDI1LTA1LTE0VDEwOjAwOjAw...")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    // 기본 생성자
+    public CommentPageResponseDto() {
+    }
+
+    // 모든 필드를 받는 생성자
+    public CommentPageResponseDto(List<Comment> comments, long totalComments, String nextCursor) {
+        this.comments = comments;
+        this.totalComments = totalComments;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<Comment> getComments() { return comments; }
+    public void setComments(List<Comment> comments) { this.comments = comments; }
+
+    public long getTotalComments() { return totalComments; }
+    public void setTotalComments(long totalComments) { this.totalComments = totalComments; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
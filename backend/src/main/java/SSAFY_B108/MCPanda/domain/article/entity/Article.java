@@ -2,6 +2,7 @@ package SSAFY_B108.MCPanda.domain.article.entity; // 패키지 경로를 다시
 
 import org.springframework.data.annotation.CreatedDate; // 생성 시간 자동 관리용
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field; // 필드명 명시적 지정 시 사용
 
@@ -26,6 +27,11 @@ public class Article {
     // 기존 Set<String> mcps를 Map으로 변경
     private Map<String, Object> mcps;
 
+    // 카테고리 필터링용 비정규화 태그 (mcps의 키와 해당 MCP들의 정규 카테고리)
+    private List<String> mcpNames;
+
+    private List<String> mcpCategories; // McpCategory.name() 값
+
     private Author author; // 위에서 만든 Author 클래스 타입
 
     // @CreatedDate // MongoDB Auditing 기능을 활성화하면 자동으로 생성 시점의 날짜가 들어감
@@ -33,7 +39,13 @@ public class Article {
 
     private int recommendCount;
 
-    private List<Comment> comments; // 위에서 만든 Comment 클래스의 리스트
+    private int commentsCount; // 댓글 수 (comments 컬렉션 작성/삭제 시 $inc로 갱신)
+
+    @Transient // 댓글은 comments 컬렉션에 저장하고, 상세 조회 시에만 채워서 응답
+    private List<Comment> comments; // 위에서 만든 Comment 클래스의 리스트 (상세 조회 시 첫 페이지만)
+
+    @Transient
+    private String commentsNextCursor; // 댓글 다음 페이지 커서 (GET /api/comments/{articleId}?cursor=, 없으면 null)
 
     // --- Lombok 사용하지 않는 경우 필요한 Getter/Setter ---
     public String getId() {
@@ -76,6 +88,22 @@ public class Article {
         this.mcps = mcps;
     }
 
+    public List<String> getMcpNames() {
+        return mcpNames;
+    }
+
+    public void setMcpNames(List<String> mcpNames) {
+        this.mcpNames = mcpNames;
+    }
+
+    public List<String> getMcpCategories() {
+        return mcpCategories;
+    }
+
+    public void setMcpCategories(List<String> mcpCategories) {
+        this.mcpCategories = mcpCategories;
+    }
+
     public Author getAuthor() {
         return author;
     }
@@ -100,6 +128,14 @@ public class Article {
         this.recommendCount = recommendCount;
     }
 
+    public int getCommentsCount() {
+        return commentsCount;
+    }
+
+    public void setCommentsCount(int commentsCount) {
+        this.commentsCount = commentsCount;
+    }
+
     public List<Comment> getComments() {
         return comments;
     }
@@ -108,6 +144,14 @@ public class Article {
         this.comments = comments;
     }
 
+    public String getCommentsNextCursor() {
+        return commentsNextCursor;
+    }
+
+    public void setCommentsNextCursor(String commentsNextCursor) {
+        this.commentsNextCursor = commentsNextCursor;
+    }
+
     // 기본 생성자
     public Article() {
     }
@@ -0,0 +1,116 @@
+package SSAFY_B108.MCPanda.domain.article.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 게시글 목록 조회 전용 읽기 모델 ("articles" 컬렉션을 프로젝션으로 조회)
+ * 본문 전체는 가져오지 않고, 요약 본문(content)과 본문 길이를 DB에서 계산해 받습니다.
+ */
+public class ArticleListView {
+
+    @Id
+    private String id;
+
+    private String title;
+
+    @Field("isNotice")
+    private boolean isNotice;
+
+    private String content; // 본문 앞부분 (요약 길이만큼 $substrCP로 잘라온 값)
+
+    private int contentLength; // 원본 본문 길이 ($strLenCP)
+
+    private Map<String, Object> mcps;
+
+    private Author author;
+
+    private LocalDateTime createdAt;
+
+    private int recommendCount;
+
+    private int commentsCount; // 댓글 수
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public boolean isNotice() {
+        return isNotice;
+    }
+
+    public void setNotice(boolean notice) {
+        isNotice = notice;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(int contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public Map<String, Object> getMcps() {
+        return mcps;
+    }
+
+    public void setMcps(Map<String, Object> mcps) {
+        this.mcps = mcps;
+    }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public int getRecommendCount() {
+        return recommendCount;
+    }
+
+    public void setRecommendCount(int recommendCount) {
+        this.recommendCount = recommendCount;
+    }
+
+    public int getCommentsCount() {
+        return commentsCount;
+    }
+
+    public void setCommentsCount(int commentsCount) {
+        this.commentsCount = commentsCount;
+    }
+}
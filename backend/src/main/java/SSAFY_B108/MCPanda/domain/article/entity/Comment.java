@@ -1,13 +1,17 @@
 package SSAFY_B108.MCPanda.domain.article.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 
+@Document(collection = "comments") // 게시글 문서에 포함하지 않고 별도 컬렉션에 저장 (인덱스: articleId, createdAt)
 public class Comment {
 
     @Id
     private String id;
 
+    private String articleId; // 댓글이 작성된 게시글 ID
+
     private Author author;
     private String content;
     private LocalDateTime createdAt;
@@ -36,6 +40,14 @@ public class Comment {
         this.id = id;
     }
 
+    public String getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(String articleId) {
+        this.articleId = articleId;
+    }
+
     public Author getAuthor() {
         return author;
     }
@@ -13,7 +13,7 @@ public class MCP {
     
     private String name; // MCP 이름 (예: "AWS")
     
-    private String category; // 카테고리 추가 (Backend, Frontend, Infrastructure, Others)
+    private String category; // 카테고리 (McpCategory 라벨로 정규화: Backend, Frontend, Infrastructure, ETC)
     
     private Map<String, Object> mcpServers; // MCP 서버 정보
     
@@ -0,0 +1,65 @@
+package SSAFY_B108.MCPanda.domain.article.entity;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MCP 카테고리
+ * 요청/DB에 들어오는 여러 표기(대소문자, 하이픈, 한글 등)를 하나의 정규 카테고리로 변환합니다.
+ */
+public enum McpCategory {
+
+    BACKEND("Backend", "backend", "back-end", "back"),
+    FRONTEND("Frontend", "frontend", "front-end", "front"),
+    INFRA("Infrastructure", "infra", "infrastructure"),
+    ETC("ETC", "etc", "other", "others", "기타");
+
+    private static final Map<String, McpCategory> ALIASES = new HashMap<>();
+
+    static {
+        for (McpCategory category : values()) {
+            ALIASES.put(normalize(category.name()), category);
+            ALIASES.put(normalize(category.label), category);
+            for (String alias : category.aliases) {
+                ALIASES.put(normalize(alias), category);
+            }
+        }
+    }
+
+    private final String label; // DB 저장 및 응답에 사용하는 표기
+    private final String[] aliases;
+
+    McpCategory(String label, String... aliases) {
+        this.label = label;
+        this.aliases = aliases;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 문자열을 정규 카테고리로 변환합니다.
+     * @param value 카테고리 문자열 (예: "infra", "Back-end", "기타")
+     * @return 일치하는 카테고리 (알 수 없는 값이면 Optional.empty())
+     */
+    public static Optional<McpCategory> from(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ALIASES.get(normalize(value)));
+    }
+
+    /**
+     * 문자열을 정규 카테고리로 변환하며, 알 수 없는 값은 ETC로 취급합니다.
+     */
+    public static McpCategory fromOrEtc(String value) {
+        return from(value).orElse(ETC);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
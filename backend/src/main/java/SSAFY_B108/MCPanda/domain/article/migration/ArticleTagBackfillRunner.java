@@ -0,0 +1,85 @@
+package SSAFY_B108.MCPanda.domain.article.migration;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import SSAFY_B108.MCPanda.domain.article.service.MCPService;
+import SSAFY_B108.MCPanda.global.config.MongoIndexConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * mcpNames / mcpCategories 태그가 없는 기존 게시글에 태그를 채워 넣는 마이그레이션 작업
+ * 애플리케이션 시작 시 실행되며, 태그가 없는 게시글만 대상으로 하므로 여러 번 실행해도 안전합니다.
+ * 인덱스 생성(MongoIndexConfig) 이후에 실행합니다.
+ */
+@Component
+@Order(MongoIndexConfig.BACKFILL_ORDER)
+public class ArticleTagBackfillRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ArticleTagBackfillRunner.class);
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final MCPService mcpService;
+
+    @Autowired
+    public ArticleTagBackfillRunner(MongoTemplate mongoTemplate, MCPService mcpService) {
+        this.mongoTemplate = mongoTemplate;
+        this.mcpService = mcpService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query query = new Query(Criteria.where("mcpCategories").exists(false));
+        query.fields().include("mcps");
+
+        long updated = 0;
+        int pending = 0;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+
+        try (Stream<Article> articles = mongoTemplate.stream(query, Article.class)) {
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                Set<String> names = article.getMcps() != null ? article.getMcps().keySet() : Collections.emptySet();
+
+                Update update = new Update()
+                        .set("mcpNames", new ArrayList<>(names))
+                        .set("mcpCategories", mcpService.resolveCategoryTags(names));
+                bulkOps.updateOne(Query.query(Criteria.where("id").is(article.getId())), update);
+
+                // BATCH_SIZE 단위로 묶어서 한 번에 반영
+                if (++pending == BATCH_SIZE) {
+                    bulkOps.execute();
+                    updated += pending;
+                    pending = 0;
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+                }
+            }
+        }
+
+        if (pending > 0) {
+            bulkOps.execute();
+            updated += pending;
+        }
+
+        if (updated > 0) {
+            log.info("게시글 MCP 태그 백필 완료: {}건", updated);
+        }
+    }
+}
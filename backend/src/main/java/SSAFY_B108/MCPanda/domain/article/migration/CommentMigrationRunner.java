@@ -0,0 +1,95 @@
+package SSAFY_B108.MCPanda.domain.article.migration;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import SSAFY_B108.MCPanda.domain.article.entity.Comment;
+import SSAFY_B108.MCPanda.global.config.MongoIndexConfig;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 문서에 포함(embedded)된 기존 댓글을 comments 컬렉션으로 옮기는 마이그레이션 작업
+ * 댓글은 _id 기준 upsert로 옮기고, 게시글의 comments 배열은 제거하면서 commentsCount를 옮긴 개수만큼 증가시킵니다.
+ * 배열이 남아 있는 게시글만 대상으로 하므로 중간에 실패해도 다시 실행하면 이어서 처리됩니다.
+ * 인덱스 생성(MongoIndexConfig) 이후에 실행합니다.
+ */
+@Component
+@Order(MongoIndexConfig.BACKFILL_ORDER)
+public class CommentMigrationRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentMigrationRunner.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public CommentMigrationRunner(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String articleCollection = mongoTemplate.getCollectionName(Article.class);
+        String commentCollection = mongoTemplate.getCollectionName(Comment.class);
+
+        // Article.comments는 @Transient이므로 원본 문서(Document)로 조회
+        Query query = new Query(Criteria.where("comments").exists(true));
+        query.fields().include("comments");
+
+        long migratedArticles = 0;
+        long migratedComments = 0;
+
+        try (Stream<Document> articles = mongoTemplate.stream(query, Document.class, articleCollection)) {
+            Iterator<Document> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Document article = iterator.next();
+                Object articleObjectId = article.get("_id");
+                String articleId = articleObjectId.toString();
+                List<Document> comments = article.getList("comments", Document.class);
+
+                int count = 0;
+                if (comments != null && !comments.isEmpty()) {
+                    BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, commentCollection);
+                    for (Document comment : comments) {
+                        Object commentId = comment.get("_id") != null ? comment.get("_id") : UUID.randomUUID().toString();
+                        Update update = new Update()
+                                .setOnInsert("articleId", articleId)
+                                .setOnInsert("author", comment.get("author"))
+                                .setOnInsert("content", comment.get("content"))
+                                .setOnInsert("createdAt", comment.get("createdAt"));
+                        bulkOps.upsert(Query.query(Criteria.where("_id").is(commentId)), update);
+                    }
+                    bulkOps.execute();
+                    count = comments.size();
+                }
+
+                // 배열 제거와 댓글 수 반영을 한 번에 (배열이 남아 있을 때만 적용되므로 중복 증가 없음)
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(articleObjectId).and("comments").exists(true)),
+                        new Update().unset("comments").inc("commentsCount", count),
+                        articleCollection);
+
+                migratedArticles++;
+                migratedComments += count;
+            }
+        }
+
+        if (migratedArticles > 0) {
+            log.info("게시글 댓글 마이그레이션 완료: 게시글 {}건, 댓글 {}건", migratedArticles, migratedComments);
+        }
+    }
+}
@@ -11,23 +11,14 @@ import java.util.List;
 
 @Repository
 public interface ArticleRepository extends MongoRepository<Article, String> {
+
+    // 검색어 기반 조회는 입력값 이스케이프 / 텍스트 검색 처리를 위해 ArticleService에서 MongoTemplate으로 수행
     
-    // 제목이나 내용에 검색어를 포함하는 게시글 조회
-    @Query("{ $or: [ {'title': {$regex: ?0, $options: 'i'}}, {'content': {$regex: ?0, $options: 'i'}} ] }")
-    Page<Article> findByTitleOrContentContaining(String search, Pageable pageable);
-    
-    // MCP 이름으로 게시글 조회 (특정 MCP 이름이 mcps 맵에 키로 존재하는지)
-    @Query("{ 'mcps.?0': { $exists: true } }")
+    // MCP 이름으로 게시글 조회 (mcpNames 태그 인덱스 사용)
+    @Query("{ 'mcpNames': ?0 }")
     Page<Article> findByMcpName(String mcpName, Pageable pageable);
     
     // MCP 이름 목록 중 하나라도 포함하는 게시글 조회
-    @Query("{ $or: [ ?0 ] }")
-    Page<Article> findByMcpNameIn(List<String> mcpQueries, Pageable pageable);
-    
-    // 검색어와 MCP 이름 목록을 모두 적용하여 게시글 조회
-    @Query("{ $and: [ " +
-           "{ $or: [ {'title': {$regex: ?0, $options: 'i'}}, {'content': {$regex: ?0, $options: 'i'}} ] }, " +
-           "{ $or: [ ?1 ] } " +
-           "] }")
-    Page<Article> findByTitleOrContentContainingAndMcpNameIn(String search, List<String> mcpQueries, Pageable pageable);
+    @Query("{ 'mcpNames': { $in: ?0 } }")
+    Page<Article> findByMcpNameIn(List<String> mcpNames, Pageable pageable);
 }
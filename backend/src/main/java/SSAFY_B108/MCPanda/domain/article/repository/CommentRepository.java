@@ -0,0 +1,12 @@
+package SSAFY_B108.MCPanda.domain.article.repository;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Comment;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CommentRepository extends MongoRepository<Comment, String> {
+
+    // 게시글 삭제 시 해당 게시글의 댓글을 모두 삭제
+    void deleteByArticleId(String articleId);
+}
@@ -0,0 +1,82 @@
+package SSAFY_B108.MCPanda.domain.article.service;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 목록의 전체 개수 캐시
+ * 목록 조회마다 같은 조건으로 count 쿼리를 반복하지 않도록 필터별 개수를 짧은 TTL 동안 보관합니다.
+ * 필터가 없는 경우에는 컬렉션 메타데이터 기반의 estimatedDocumentCount를 사용합니다.
+ */
+@Component
+public class ArticleCountCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ArticleCountCache(MongoTemplate mongoTemplate,
+                             @Value("${article.count-cache.ttl-ms:30000}") long ttlMillis,
+                             @Value("${article.count-cache.max-entries:1000}") int maxEntries) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 조건에 맞는 게시글 수를 반환합니다.
+     *
+     * @param query 필터 조건 (정렬/페이징 정보는 무시됨)
+     * @return 게시글 수와 근사값 여부
+     */
+    public Count count(Query query) {
+        if (query.getQueryObject().isEmpty()) {
+            return new Count(mongoTemplate.estimatedCount(Article.class), true);
+        }
+
+        // 필터 문서를 JSON으로 정규화하여 캐시 키로 사용
+        String key = query.getQueryObject().toJson();
+        long now = System.currentTimeMillis();
+
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return new Count(cached.count(), true);
+        }
+
+        long count = mongoTemplate.count(Query.of(query).limit(0).skip(0), Article.class);
+        if (counts.size() >= maxEntries) {
+            counts.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+            if (counts.size() >= maxEntries) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(count, now + ttlMillis));
+        return new Count(count, false);
+    }
+
+    /**
+     * 게시글이 생성/삭제되어 개수가 바뀐 경우 캐시를 비웁니다.
+     */
+    public void invalidate() {
+        counts.clear();
+    }
+
+    /**
+     * @param total 게시글 수
+     * @param approximate 캐시 또는 추정치에서 가져온 값이면 true
+     */
+    public record Count(long total, boolean approximate) {
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
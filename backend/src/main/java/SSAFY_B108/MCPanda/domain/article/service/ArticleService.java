@@ -5,33 +5,54 @@ import SSAFY_B108.MCPanda.domain.article.dto.ArticleListInfoResponseDto;
 import SSAFY_B108.MCPanda.domain.article.dto.ArticlePageResponseDto;
 import SSAFY_B108.MCPanda.domain.article.dto.AuthorDto;
 import SSAFY_B108.MCPanda.domain.article.dto.ArticleUpdateRequestDto;
+import SSAFY_B108.MCPanda.domain.article.dto.CommentPageResponseDto;
 import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import SSAFY_B108.MCPanda.domain.article.entity.ArticleListView;
 import SSAFY_B108.MCPanda.domain.article.entity.Author;
 import SSAFY_B108.MCPanda.domain.article.repository.ArticleRepository;
+import SSAFY_B108.MCPanda.domain.article.repository.CommentRepository;
 import SSAFY_B108.MCPanda.domain.article.repository.RecommendationRepository;
 import SSAFY_B108.MCPanda.domain.article.entity.Recommendation;
 import SSAFY_B108.MCPanda.domain.article.dto.ArticleRecommendResponseDto;
 import SSAFY_B108.MCPanda.global.exception.ArticleNotFoundException;
 import SSAFY_B108.MCPanda.global.exception.UnauthorizedOperationException;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
+import SSAFY_B108.MCPanda.global.util.CursorCodec;
+import SSAFY_B108.MCPanda.global.util.PageSizeLimits;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
-import SSAFY_B108.MCPanda.domain.article.repository.MCPRepository;
 import SSAFY_B108.MCPanda.domain.article.entity.MCP;
+import SSAFY_B108.MCPanda.domain.article.entity.McpCategory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.domain.PageImpl;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
@@ -40,22 +61,47 @@ import java.util.regex.Pattern;
 @Service
 public class ArticleService {
 
+    private static final Logger log = LoggerFactory.getLogger(ArticleService.class);
+
     private final ArticleRepository articleRepository;
     private final RecommendationRepository recommendationRepository;
-    private final MCPRepository mcpRepository;
+    private final MCPService mcpService;
     private final MongoTemplate mongoTemplate;
+    private final ArticleCountCache articleCountCache;
+    private final RecommendCountAggregator recommendCountAggregator;
+    private final RecommendationService recommendationService;
+    private final CommentRepository commentRepository;
+    private final CommentService commentService;
+    private final int commentPageSize;
+    // 커서에 정렬 타입을 함께 기록하여 다른 정렬의 커서가 섞여 들어오는 것을 방지
+    private static final String CURSOR_TYPE_LATEST = "latest";
+    private static final String CURSOR_TYPE_RECOMMEND = "recommend";
+    private static final int CONTENT_SUMMARY_LENGTH = 100; // 목록에 노출할 본문 요약 길이 (코드 포인트 기준)
+    private static final Pattern REGEX_META_CHARS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
     private static final DateTimeFormatter ISO_DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
     private static final DateTimeFormatter LOCAL_DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     @Autowired
     public ArticleService(ArticleRepository articleRepository,
                           RecommendationRepository recommendationRepository,
-                          MCPRepository mcpRepository,
-                          MongoTemplate mongoTemplate) {
+                          MCPService mcpService,
+                          MongoTemplate mongoTemplate,
+                          ArticleCountCache articleCountCache,
+                          RecommendCountAggregator recommendCountAggregator,
+                          RecommendationService recommendationService,
+                          CommentRepository commentRepository,
+                          CommentService commentService,
+                          @Value("${comment.page-size:20}") int commentPageSize) {
         this.articleRepository = articleRepository;
         this.recommendationRepository = recommendationRepository;
-        this.mcpRepository = mcpRepository;
+        this.mcpService = mcpService;
         this.mongoTemplate = mongoTemplate;
+        this.articleCountCache = articleCountCache;
+        this.recommendCountAggregator = recommendCountAggregator;
+        this.recommendationService = recommendationService;
+        this.commentRepository = commentRepository;
+        this.commentService = commentService;
+        this.commentPageSize = commentPageSize;
     }
 
     /**
@@ -76,13 +122,7 @@ public class ArticleService {
         newArticle.setContent(requestDto.getContent());
         
         // MCP 이름만 저장하고 실제 내용은 조회 시 DB에서 가져옴
-        Map<String, Object> mcpNames = new HashMap<>();
-        if (requestDto.getMcps() != null) {
-            for (String key : requestDto.getMcps().keySet()) {
-                mcpNames.put(key, true);
-            }
-        }
-        newArticle.setMcps(mcpNames);
+        applyMcps(newArticle, requestDto.getMcps());
 
         newArticle.setAuthor(author); // 작성자 정보 설정
         newArticle.setCreatedAt(LocalDateTime.now()); // 현재 시간으로 생성일시 설정
@@ -91,7 +131,9 @@ public class ArticleService {
         newArticle.setComments(new ArrayList<>()); // 기본값: 빈 댓글 목록
 
         // 3. Repository를 통해 데이터베이스에 저장
-        return articleRepository.save(newArticle);
+        Article savedArticle = articleRepository.save(newArticle);
+        articleCountCache.invalidate();
+        return savedArticle;
     }
 
     /**
@@ -106,19 +148,24 @@ public class ArticleService {
         
         if (articleOpt.isPresent()) {
             Article article = articleOpt.get();
+
+            // 아직 DB에 반영되지 않은 추천수 증감 반영
+            article.setRecommendCount(recommendCountAggregator.overlay(articleId, article.getRecommendCount()));
+
+            // 댓글은 첫 페이지만 포함하고, 나머지는 커서로 댓글 API에서 조회 (전체 수는 commentsCount)
+            CommentPageResponseDto commentPage = commentService.findCommentPage(articleId, null, commentPageSize, article.getCommentsCount());
+            article.setComments(commentPage.getComments());
+            article.setCommentsNextCursor(commentPage.getNextCursor());
             
-            // MCP 정보를 DB에서 로드하여 설정
+            // MCP 정보를 카탈로그에서 로드하여 설정
             Map<String, Object> mcpsMap = article.getMcps();
             if (mcpsMap != null && !mcpsMap.isEmpty()) {
                 Map<String, Object> enrichedMcps = new HashMap<>();
                 
-                // mcps 맵의 각 키(MCP 이름)에 대해 DB에서 MCP 정보 조회
-                for (String mcpName : mcpsMap.keySet()) {
-                    Optional<MCP> mcpOpt = mcpRepository.findByName(mcpName);
-                    if (mcpOpt.isPresent()) {
-                        MCP mcp = mcpOpt.get();
-                        enrichedMcps.put(mcpName, mcp.getMcpServers());
-                    }
+                // mcps 맵의 모든 키(MCP 이름)를 메모리 카탈로그에서 한 번에 조회
+                Map<String, MCP> mcps = mcpService.getMCPsByNames(mcpsMap.keySet());
+                for (MCP mcp : mcps.values()) {
+                    enrichedMcps.put(mcp.getName(), mcp.getMcpServers());
                 }
                 
                 // 기존 mcps를 DB에서 조회한 정보로 대체
@@ -135,14 +182,16 @@ public class ArticleService {
      * 게시글 전체 목록을 조회합니다. (검색, 정렬, 페이징, MCP 카테고리 필터링 기능 포함)
      *
      * @param search 검색어 (제목 또는 내용 대상)
+     * @param searchMode 검색 방식 ("contains": 부분 문자열 일치(기본값), "text": 텍스트 인덱스 기반 관련도순 검색)
      * @param type 정렬 타입 ("latest" 또는 "recommend")
-     * @param mcpCategory MCP 카테고리 (Backend, Frontend, Infrastructure, Others)
+     * @param mcpCategory MCP 카테고리 (backend, frontend, infra, etc 등 McpCategory가 인식하는 표기)
      * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 당 게시글 수
+     * @param size 페이지 당 게시글 수 (PageSizeLimits 범위로 보정)
+     * @param loggedInMemberId 로그인한 사용자의 ID (비로그인 시 null, 게시글별 추천 여부 표시에 사용)
      * @return 페이징 처리된 게시글 목록 응답 DTO
      */
     @Transactional(readOnly = true)
-    public ArticlePageResponseDto findAllArticles(String search, String type, String mcpCategory, int page, int size) {
+    public ArticlePageResponseDto findAllArticles(String search, String searchMode, String type, String mcpCategory, int page, int size, String loggedInMemberId) {
         // 1. 정렬 조건 설정 (기본값: 추천순)
         Sort sort;
         if ("latest".equalsIgnoreCase(type)) {
@@ -153,133 +202,258 @@ public class ArticleService {
         }
 
         // 2. Pageable 객체 생성
-        Pageable pageable = PageRequest.of(page > 0 ? page - 1 : 0, size, sort);
+        Pageable pageable = PageRequest.of(page > 0 ? page - 1 : 0, PageSizeLimits.clamp(size), sort);
 
-        // MCP 디버깅 정보 출력
-        System.out.println("===== MCP 전체 목록 =====");
-        List<MCP> allMcps = mcpRepository.findAll();
-        allMcps.forEach(mcp -> System.out.println("MCP: " + mcp.getName() + ", 카테고리: " + mcp.getCategory()));
-        System.out.println("========================");
+        // 3. 검색 조건 구성 및 실행
+        Page<ArticleListView> articlePage;
+        boolean approximate = false;
+        Optional<Query> listQuery = buildListQuery(search, searchMode, mcpCategory, null);
 
-        // 3. 검색 조건 구성
-        Page<Article> articlePage;
-        
-        if (mcpCategory != null && !mcpCategory.trim().isEmpty()) {
-            // 카테고리명 정규화
-            String searchCategory = mcpCategory.trim();
-            System.out.println("요청된 카테고리: " + searchCategory);
-            
-            // 카테고리 값 변환 추가 - 실제 DB에 어떻게 저장되어 있는지에 따라 조정 필요
-            // 모든 가능한 형태의 카테고리를 처리
-            List<String> possibleCategories = new ArrayList<>();
-            possibleCategories.add(searchCategory);
-            
-            if (searchCategory.equalsIgnoreCase("infra")) {
-                possibleCategories.add("Infrastructure");
-                possibleCategories.add("INFRA");
-                possibleCategories.add("INFRASTRUCTURE");
-                possibleCategories.add("Infra");
-            }
-            
-            if (searchCategory.equalsIgnoreCase("frontend")) {
-                possibleCategories.add("Front-end");
-                possibleCategories.add("FRONTEND");
-                possibleCategories.add("Front");
-            }
-            
-            if (searchCategory.equalsIgnoreCase("backend")) {
-                possibleCategories.add("Back-end");
-                possibleCategories.add("BACKEND");
-                possibleCategories.add("Back");
-            }
-            
-            if (searchCategory.equalsIgnoreCase("etc")) {
-                possibleCategories.add("ETC");
-                possibleCategories.add("etc");
-                possibleCategories.add("Others");
-                possibleCategories.add("OTHER");
-                possibleCategories.add("OTHERS");
-                possibleCategories.add("기타");
-            }
-            
-            System.out.println("검색할 카테고리들: " + possibleCategories);
-            
-            // 모든 가능한 카테고리로 MCP 검색
-            List<MCP> mcpsInCategory = new ArrayList<>();
-            for (String category : possibleCategories) {
-                List<MCP> mcps = mcpRepository.findByCategoryIgnoreCase(category);
-                mcpsInCategory.addAll(mcps);
-            }
-            
-            // 디버깅: 카테고리와 찾은 MCP 출력
-            System.out.println("찾은 MCP 개수: " + mcpsInCategory.size());
-            mcpsInCategory.forEach(mcp -> System.out.println("MCP: " + mcp.getName() + ", 카테고리: " + mcp.getCategory()));
-            
-            if (!mcpsInCategory.isEmpty()) {
-                // 여러 MCP가 있을 경우 쿼리 구성
-                Criteria criteria = new Criteria();
-                List<Criteria> orCriteria = new ArrayList<>();
-                
-                // 각 MCP별 조건 생성
-                for (MCP mcp : mcpsInCategory) {
-                    String fieldPath = "mcps." + mcp.getName();
-                    orCriteria.add(Criteria.where(fieldPath).exists(true));
-                    System.out.println("검색 조건 추가: " + fieldPath);
-                }
-                
-                // $or 조건 추가
-                if (!orCriteria.isEmpty()) {
-                    criteria = new Criteria().orOperator(orCriteria.toArray(new Criteria[0]));
-                }
-                
-                // 검색어 조건 추가
-                if (search != null && !search.trim().isEmpty()) {
-                    Pattern pattern = Pattern.compile(search, Pattern.CASE_INSENSITIVE);
-                    criteria = new Criteria().andOperator(
-                        criteria,
-                        new Criteria().orOperator(
-                            Criteria.where("title").regex(pattern),
-                            Criteria.where("content").regex(pattern)
-                        )
-                    );
-                }
-                
-                // 쿼리 생성 및 실행
-                Query query = new Query(criteria).with(pageable);
-                List<Article> articles = mongoTemplate.find(query, Article.class);
-                long totalCount = mongoTemplate.count(Query.of(query).limit(0).skip(0), Article.class);
-                
-                System.out.println("검색 결과 게시글 수: " + articles.size());
-                
-                articlePage = new PageImpl<>(articles, pageable, totalCount);
-            } else {
-                // 카테고리에 해당하는 MCP가 없는 경우
-                System.out.println("해당 카테고리의 MCP를 찾을 수 없음");
-                articlePage = Page.empty(pageable);
-            }
-        } else if (search != null && !search.trim().isEmpty()) {
-            // 검색어로만 검색
-            articlePage = articleRepository.findByTitleOrContentContaining(search, pageable);
+        if (listQuery.isPresent()) {
+            Query query = listQuery.get().with(pageable);
+            List<ArticleListView> articles = findListViews(query);
+            // 전체 개수는 필터별 캐시(짧은 TTL) 또는 추정치를 사용
+            ArticleCountCache.Count totalCount = articleCountCache.count(query);
+            approximate = totalCount.approximate();
+
+            articlePage = new PageImpl<>(articles, pageable, totalCount.total());
         } else {
-            // 모든 게시글 조회
-            articlePage = articleRepository.findAll(pageable);
+            // 알 수 없는 카테고리인 경우
+            log.debug("알 수 없는 카테고리: '{}'", mcpCategory);
+            articlePage = Page.empty(pageable);
         }
 
         // 4. 결과 변환 및 반환
-        List<ArticleListInfoResponseDto> articleDtos = articlePage.getContent().stream()
-                .map(this::convertToArticleListInfoResponseDto)
-                .collect(Collectors.toList());
+        List<ArticleListInfoResponseDto> articleDtos = toListDtos(articlePage.getContent(), loggedInMemberId);
 
-        return new ArticlePageResponseDto(
+        ArticlePageResponseDto responseDto = new ArticlePageResponseDto(
                 articlePage.getNumber() + 1,
                 articlePage.getTotalPages(),
                 articlePage.getTotalElements(),
                 articleDtos
         );
+        responseDto.setApproximate(approximate);
+        return responseDto;
+    }
+
+    /**
+     * 게시글 목록을 커서(keyset) 방식으로 조회합니다. (무한 스크롤용)
+     * skip 대신 마지막으로 받은 게시글의 정렬 키 이후부터 조회하고, 전체 개수는 세지 않으므로 페이지 깊이와 무관하게 일정한 비용으로 조회됩니다.
+     *
+     * @param search 검색어 (제목 또는 내용 대상, contains 모드만 지원)
+     * @param searchMode 검색 방식 (커서 모드에서는 관련도 정렬을 사용할 수 없으므로 "text"는 허용하지 않음)
+     * @param type 정렬 타입 ("latest": (createdAt, _id) / "recommend": (recommendCount, createdAt, _id))
+     * @param mcpCategory MCP 카테고리
+     * @param cursor 이전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+     * @param size 페이지 당 게시글 수 (PageSizeLimits 범위로 보정)
+     * @param loggedInMemberId 로그인한 사용자의 ID (비로그인 시 null)
+     * @return 게시글 목록과 다음 커서를 담은 응답 DTO
+     * @throws CustomException 커서 형식이 올바르지 않거나 텍스트 검색과 함께 요청한 경우 (400)
+     */
+    @Transactional(readOnly = true)
+    public ArticlePageResponseDto findArticlesByCursor(String search, String searchMode, String type, String mcpCategory, String cursor, int size, String loggedInMemberId) {
+        boolean hasSearch = search != null && !search.trim().isEmpty();
+        if (hasSearch && "text".equalsIgnoreCase(searchMode)) {
+            throw new CustomException(ApiStatusCode.BAD_REQUEST, "텍스트 검색은 커서 페이지네이션을 지원하지 않습니다.");
+        }
+
+        // 0 이하/과도한 크기는 허용 범위로 보정 (limit(size + 1) 및 마지막 게시글 조회 보호)
+        size = PageSizeLimits.clamp(size);
+
+        boolean latest = "latest".equalsIgnoreCase(type);
+        Sort sort = latest
+                ? Sort.by(Sort.Direction.DESC, "createdAt", "_id")
+                : Sort.by(Sort.Direction.DESC, "recommendCount", "createdAt", "_id");
+
+        Criteria keyset = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            keyset = latest ? latestKeysetCriteria(cursor) : recommendKeysetCriteria(cursor);
+        }
+
+        Optional<Query> listQuery = buildListQuery(search, "contains", mcpCategory, keyset);
+        if (listQuery.isEmpty()) {
+            log.debug("알 수 없는 카테고리: '{}'", mcpCategory);
+            return ArticlePageResponseDto.ofCursor(new ArrayList<>(), null);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Query query = listQuery.get().with(sort).limit(size + 1);
+        List<ArticleListView> articles = findListViews(query);
+
+        String nextCursor = null;
+        if (articles.size() > size) {
+            articles = articles.subList(0, size);
+            nextCursor = encodeCursor(articles.get(articles.size() - 1), latest);
+        }
+
+        List<ArticleListInfoResponseDto> articleDtos = toListDtos(articles, loggedInMemberId);
+
+        return ArticlePageResponseDto.ofCursor(articleDtos, nextCursor);
+    }
+
+    // 마지막 게시글의 정렬 키로 다음 커서를 생성하는 헬퍼 메소드
+    private String encodeCursor(ArticleListView last, boolean latest) {
+        if (latest) {
+            return CursorCodec.encode(CURSOR_TYPE_LATEST, last.getCreatedAt().toString(), last.getId());
+        }
+        return CursorCodec.encode(CURSOR_TYPE_RECOMMEND, String.valueOf(last.getRecommendCount()),
+                last.getCreatedAt().toString(), last.getId());
+    }
+
+    // 최신순 커서: (createdAt, _id) < (c, id)
+    private Criteria latestKeysetCriteria(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!CURSOR_TYPE_LATEST.equals(parts[0])) {
+            throw CursorCodec.invalidCursor();
+        }
+        LocalDateTime createdAt = parseCursorDateTime(parts[1]);
+        ObjectId id = parseCursorId(parts[2]);
+
+        return new Criteria().orOperator(
+                Criteria.where("createdAt").lt(createdAt),
+                Criteria.where("createdAt").is(createdAt).and("_id").lt(id)
+        );
     }
 
-    // Article 엔티티를 ArticleListInfoResponseDto로 변환하는 헬퍼 메소드
-    private ArticleListInfoResponseDto convertToArticleListInfoResponseDto(Article article) {
+    // 추천순 커서: (recommendCount, createdAt, _id) < (r, c, id)
+    private Criteria recommendKeysetCriteria(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 4);
+        if (!CURSOR_TYPE_RECOMMEND.equals(parts[0])) {
+            throw CursorCodec.invalidCursor();
+        }
+        int recommendCount;
+        try {
+            recommendCount = Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw CursorCodec.invalidCursor();
+        }
+        LocalDateTime createdAt = parseCursorDateTime(parts[2]);
+        ObjectId id = parseCursorId(parts[3]);
+
+        return new Criteria().orOperator(
+                Criteria.where("recommendCount").lt(recommendCount),
+                Criteria.where("recommendCount").is(recommendCount).and("createdAt").lt(createdAt),
+                Criteria.where("recommendCount").is(recommendCount).and("createdAt").is(createdAt).and("_id").lt(id)
+        );
+    }
+
+    private LocalDateTime parseCursorDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw CursorCodec.invalidCursor();
+        }
+    }
+
+    private ObjectId parseCursorId(String value) {
+        if (!ObjectId.isValid(value)) {
+            throw CursorCodec.invalidCursor();
+        }
+        return new ObjectId(value);
+    }
+
+    /**
+     * 목록 조회 조건(검색어, 카테고리)으로 쿼리를 구성합니다. 정렬/페이징은 호출하는 쪽에서 적용합니다.
+     *
+     * @param keyset 커서 조건 (커서 모드가 아니면 null)
+     * @return 구성된 쿼리. 알 수 없는 카테고리라서 결과가 없을 것이 확실하면 Optional.empty()
+     */
+    private Optional<Query> buildListQuery(String search, String searchMode, String mcpCategory, Criteria keyset) {
+        Query query;
+        List<Criteria> conditions = new ArrayList<>();
+        boolean hasSearch = search != null && !search.trim().isEmpty();
+
+        if (hasSearch && "text".equalsIgnoreCase(searchMode)) {
+            // 텍스트 인덱스(article_text_idx) 기반 검색, 관련도 점수를 우선 정렬
+            query = TextQuery.queryText(buildTextCriteria(search)).sortByScore();
+        } else {
+            query = new Query();
+            if (hasSearch) {
+                // 사용자 입력은 정규식 리터럴로 이스케이프 (패턴 주입/과도한 백트래킹 방지)
+                Pattern pattern = Pattern.compile(escapeRegex(search.trim()), Pattern.CASE_INSENSITIVE);
+                conditions.add(new Criteria().orOperator(
+                        Criteria.where("title").regex(pattern),
+                        Criteria.where("content").regex(pattern)
+                ));
+            }
+        }
+
+        if (mcpCategory != null && !mcpCategory.trim().isEmpty()) {
+            // 카테고리명을 정규 카테고리로 변환한 뒤 게시글의 mcpCategories 태그로 단일 인덱스 쿼리
+            Optional<McpCategory> category = McpCategory.from(mcpCategory.trim());
+            if (category.isEmpty()) {
+                return Optional.empty();
+            }
+            conditions.add(Criteria.where("mcpCategories").is(category.get().name()));
+        }
+
+        if (keyset != null) {
+            conditions.add(keyset);
+        }
+
+        // 검색어 조건과 커서 조건이 모두 $or를 사용하므로 $and로 묶어서 추가
+        if (!conditions.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(conditions));
+        }
+
+        return Optional.of(query);
+    }
+
+    // 검색어를 텍스트 검색 단어 목록으로 변환 ($text 검색 문법의 구문(") / 제외(-) 연산자는 제거)
+    private TextCriteria buildTextCriteria(String search) {
+        String[] words = Arrays.stream(search.trim().split("\\s+"))
+                .map(word -> word.replace("\"", "").replaceFirst("^-+", ""))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+        return TextCriteria.forDefaultLanguage().matchingAny(words);
+    }
+
+    // 정규식 메타 문자를 이스케이프하는 헬퍼 메소드
+    private String escapeRegex(String value) {
+        return REGEX_META_CHARS.matcher(value).replaceAll("\\\\$0");
+    }
+
+    // 요청의 mcps 키(MCP 이름)만 저장하고, 카테고리 필터링용 태그(mcpNames, mcpCategories)를 함께 채우는 헬퍼 메소드
+    private void applyMcps(Article article, Map<String, Object> requestMcps) {
+        Map<String, Object> mcpNames = new HashMap<>();
+        if (requestMcps != null) {
+            for (String key : requestMcps.keySet()) {
+                mcpNames.put(key, true);
+            }
+        }
+        article.setMcps(mcpNames);
+        article.setMcpNames(new ArrayList<>(mcpNames.keySet()));
+        article.setMcpCategories(mcpService.resolveCategoryTags(mcpNames.keySet()));
+    }
+
+    // 목록 조회용 프로젝션 쿼리 실행 (본문은 요약 길이만큼만 DB에서 잘라서 조회)
+    private List<ArticleListView> findListViews(Query query) {
+        AggregationExpression content = ConditionalOperators.ifNull("content").then("");
+
+        query.fields()
+                .include("title", "isNotice", "mcps", "author", "createdAt", "recommendCount", "commentsCount")
+                .project(StringOperators.valueOf(content).substringCP(0, CONTENT_SUMMARY_LENGTH)).as("content")
+                .project(StringOperators.valueOf(content).lengthCP()).as("contentLength");
+
+        return mongoTemplate.find(query, ArticleListView.class, mongoTemplate.getCollectionName(Article.class));
+    }
+
+    // 목록 DTO 변환 + 로그인한 사용자의 추천 여부를 한 번의 조회로 채우는 헬퍼 메소드
+    private List<ArticleListInfoResponseDto> toListDtos(List<ArticleListView> articles, String loggedInMemberId) {
+        Set<String> likedIds = recommendationService.findLikedArticleIds(loggedInMemberId,
+                articles.stream().map(ArticleListView::getId).collect(Collectors.toList()));
+
+        return articles.stream()
+                .map(article -> {
+                    ArticleListInfoResponseDto dto = convertToArticleListInfoResponseDto(article);
+                    dto.setLiked(likedIds.contains(article.getId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    // ArticleListView를 ArticleListInfoResponseDto로 변환하는 헬퍼 메소드
+    private ArticleListInfoResponseDto convertToArticleListInfoResponseDto(ArticleListView article) {
         AuthorDto authorDto = null;
         if (article.getAuthor() != null && article.getAuthor().getNickname() != null) {
             authorDto = new AuthorDto(article.getAuthor().getNickname());
@@ -289,33 +463,26 @@ public class ArticleService {
         if (article.getCreatedAt() != null) {
             formattedCreatedAt = article.getCreatedAt().format(LOCAL_DATE_TIME_FORMATTER);
         }
-        
-        int commentsCount = 0;
-        if (article.getComments() != null) {
-            commentsCount = article.getComments().size();
+
+        // 내용 요약: DB에서 잘라온 앞부분에 원본이 더 길면 말줄임 표시
+        String summary = article.getContent();
+        if (article.getContentLength() > CONTENT_SUMMARY_LENGTH) {
+            summary = summary + "...";
         }
 
         return new ArticleListInfoResponseDto(
                 article.getId(),
                 article.isNotice(),
                 article.getTitle(),
-                truncateContent(article.getContent(), 100), // 내용 요약 (예: 100자)
+                summary,
                 article.getMcps(),
                 formattedCreatedAt,
                 authorDto,
-                article.getRecommendCount(),
-                commentsCount
+                recommendCountAggregator.overlay(article.getId(), article.getRecommendCount()),
+                article.getCommentsCount()
         );
     }
 
-    // 내용 요약을 위한 헬퍼 메소드 (간단한 버전)
-    private String truncateContent(String content, int maxLength) {
-        if (content == null || content.length() <= maxLength) {
-            return content;
-        }
-        return content.substring(0, maxLength) + "...";
-    }
-
     /**
      * 게시글을 수정합니다.
      *
@@ -349,9 +516,25 @@ public class ArticleService {
             existingArticle.setContent(requestDto.getContent());
             needsUpdate = true;
         }
+        if (requestDto.getMcps() != null) {
+            applyMcps(existingArticle, requestDto.getMcps());
+            needsUpdate = true;
+        }
 
-        // 4. 업데이트된 게시글을 저장합니다.
-        return articleRepository.save(existingArticle);
+        // 4. 변경된 필드만 $set으로 반영합니다.
+        //    (문서 전체를 저장하면 그 사이에 $inc로 반영된 추천수/댓글 수를 덮어쓰게 되므로 save를 사용하지 않음)
+        if (needsUpdate) {
+            Update update = new Update()
+                    .set("title", existingArticle.getTitle())
+                    .set("content", existingArticle.getContent())
+                    .set("mcps", existingArticle.getMcps())
+                    .set("mcpNames", existingArticle.getMcpNames())
+                    .set("mcpCategories", existingArticle.getMcpCategories());
+            mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(articleId)), update, Article.class);
+            // MCP 태그가 바뀌면 카테고리별 개수도 달라지므로 캐시 무효화
+            articleCountCache.invalidate();
+        }
+        return existingArticle;
     }
 
     /**
@@ -379,6 +562,12 @@ public class ArticleService {
         // MongoRepository의 deleteById 메소드는 내부적으로 해당 ID의 문서를 찾아 삭제합니다.
         // delete(articleToDelete)를 사용해도 동일하게 동작합니다.
         articleRepository.deleteById(articleId);
+        articleCountCache.invalidate();
+
+        // 4. 게시글에 달린 댓글, 추천 기록과 반영 대기 중인 추천수 증감도 함께 정리합니다.
+        commentRepository.deleteByArticleId(articleId);
+        recommendationRepository.deleteByArticleId(articleId);
+        recommendCountAggregator.discard(articleId);
         // 또는 articleRepository.delete(articleToDelete);
     }
 
@@ -390,41 +579,53 @@ public class ArticleService {
      * @return 추천 처리 결과 (메시지, 업데이트된 추천 수, 현재 추천 상태)
      * @throws ArticleNotFoundException 게시글을 찾을 수 없는 경우
      */
-    @Transactional
     public ArticleRecommendResponseDto recommendOrUnrecommendArticle(String articleId, String memberId) {
-        // 1. 게시글 조회
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new ArticleNotFoundException("추천하려는 게시글을 찾을 수 없습니다: " + articleId));
-
-        // 2. 현재 사용자가 해당 게시글을 이미 추천했는지 확인
-        Optional<Recommendation> existingRecommendation = recommendationRepository.findByMemberIdAndArticleId(memberId, articleId);
-
-        String message;
-        boolean isLiked;
-
-        if (existingRecommendation.isPresent()) {
-            // 3-1. 이미 추천한 경우: 추천 취소 (Recommendation 레코드 삭제)
-            recommendationRepository.delete(existingRecommendation.get());
-            article.setRecommendCount(Math.max(0, article.getRecommendCount() - 1)); // 추천수 1 감소 (음수 방지)
-            message = "추천 취소됨";
-            isLiked = false;
-        } else {
-            // 3-2. 아직 추천하지 않은 경우: 추천 (Recommendation 레코드 생성)
-            Recommendation newRecommendation = new Recommendation(memberId, articleId);
-            // @CreatedDate 어노테이션을 Recommendation 엔티티에 사용했다면 createdAt은 자동으로 설정됩니다.
-            // 만약 Auditing 미사용 시 또는 수동 설정 원할 시:
-            // newRecommendation.setCreatedAt(LocalDateTime.now());
-            recommendationRepository.save(newRecommendation);
-            article.setRecommendCount(article.getRecommendCount() + 1); // 추천수 1 증가
-            message = "추천 완료";
-            isLiked = true;
+        // 1. 게시글의 저장된 추천수만 조회 (문서 전체를 읽지 않으며, 게시글 존재 여부 확인을 겸함)
+        int storedCount = findStoredRecommendCount(articleId);
+
+        // 2. 추천 기록 삭제를 먼저 시도하여, 삭제되었으면 추천 취소로 처리
+        //    (조회 후 삭제하지 않고 삭제 결과로 판단하므로 동시 요청이 와도 한 요청만 취소에 성공)
+        Query recommendationQuery = Query.query(Criteria.where("memberId").is(memberId).and("articleId").is(articleId));
+        long removed = mongoTemplate.remove(recommendationQuery, Recommendation.class).getDeletedCount();
+
+        if (removed > 0) {
+            // 3-1. 추천 취소: 추천수 감소는 집계기에 기록하고 주기적으로 일괄 반영
+            recommendCountAggregator.add(articleId, -1);
+            recommendationService.recordToggle(memberId, articleId, false);
+            return new ArticleRecommendResponseDto("추천 취소됨", recommendCountAggregator.overlay(articleId, storedCount), false);
+        }
+
+        // 3-2. 추천: Recommendation 레코드 생성 후 추천수 증가 기록
+        Recommendation newRecommendation = new Recommendation(memberId, articleId);
+        newRecommendation.setCreatedAt(LocalDateTime.now()); // Auditing 미사용이므로 직접 설정
+        try {
+            mongoTemplate.insert(newRecommendation);
+        } catch (DuplicateKeyException e) {
+            // 같은 사용자의 동시 추천 요청 중 다른 요청이 먼저 추천한 경우 (member_article_unique)
+            log.debug("이미 추천된 게시글 - articleId: {}, memberId: {}", articleId, memberId);
+            recommendationService.recordToggle(memberId, articleId, true);
+            return new ArticleRecommendResponseDto("추천 완료", recommendCountAggregator.overlay(articleId, storedCount), true);
         }
 
-        // 4. 변경된 Article 정보 저장 (recommendCount 업데이트)
-        articleRepository.save(article);
+        recommendCountAggregator.add(articleId, 1);
+        recommendationService.recordToggle(memberId, articleId, true);
+        return new ArticleRecommendResponseDto("추천 완료", recommendCountAggregator.overlay(articleId, storedCount), true);
+    }
+
+    /**
+     * DB에 저장된 추천수를 조회합니다. (recommendCount 필드만 프로젝션)
+     *
+     * @throws ArticleNotFoundException 게시글을 찾을 수 없는 경우
+     */
+    private int findStoredRecommendCount(String articleId) {
+        Query query = Query.query(Criteria.where("_id").is(articleId));
+        query.fields().include("recommendCount");
 
-        // 5. 응답 DTO 생성 및 반환
-        return new ArticleRecommendResponseDto(message, article.getRecommendCount(), isLiked);
+        Article article = mongoTemplate.findOne(query, Article.class);
+        if (article == null) {
+            throw new ArticleNotFoundException("추천하려는 게시글을 찾을 수 없습니다: " + articleId);
+        }
+        return article.getRecommendCount();
     }
 
     // 여기에 앞으로 게시글 삭제 등의 메소드가 추가될 예정입니다.
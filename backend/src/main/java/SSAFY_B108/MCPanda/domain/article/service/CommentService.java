@@ -1,35 +1,48 @@
 package SSAFY_B108.MCPanda.domain.article.service;
 
+import SSAFY_B108.MCPanda.domain.article.dto.CommentPageResponseDto;
 import SSAFY_B108.MCPanda.domain.article.dto.CommentRequestDto;
 import SSAFY_B108.MCPanda.domain.article.dto.CommentResponseDto;
 import SSAFY_B108.MCPanda.domain.article.entity.Article;
 import SSAFY_B108.MCPanda.domain.article.entity.Author;
 import SSAFY_B108.MCPanda.domain.article.entity.Comment;
-import SSAFY_B108.MCPanda.domain.article.repository.ArticleRepository;
+import SSAFY_B108.MCPanda.domain.article.repository.CommentRepository;
 import SSAFY_B108.MCPanda.global.exception.ArticleNotFoundException;
 import SSAFY_B108.MCPanda.global.exception.CommentNotFoundException;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
 import SSAFY_B108.MCPanda.global.exception.UnauthorizedOperationException;
+import SSAFY_B108.MCPanda.global.util.CursorCodec;
+import SSAFY_B108.MCPanda.global.util.PageSizeLimits;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.UUID;
 
 @Service
 public class CommentService {
 
-    private final ArticleRepository articleRepository;
+    private static final String CURSOR_TYPE = "comment";
+
+    private final CommentRepository commentRepository;
+    private final MongoTemplate mongoTemplate;
 
     @Autowired
-    public CommentService(ArticleRepository articleRepository) {
-        this.articleRepository = articleRepository;
+    public CommentService(CommentRepository commentRepository, MongoTemplate mongoTemplate) {
+        this.commentRepository = commentRepository;
+        this.mongoTemplate = mongoTemplate;
     }
 
     /**
      * 댓글을 작성합니다.
+     * 댓글은 comments 컬렉션에 저장하고, 게시글에는 댓글 수만 $inc로 반영합니다. (게시글 문서를 다시 저장하지 않음)
      *
      * @param articleId 댓글을 작성할 게시글 ID
      * @param requestDto 댓글 작성 요청 DTO
@@ -38,13 +51,13 @@ public class CommentService {
      * @return 댓글 작성 결과 응답 DTO
      * @throws ArticleNotFoundException 게시글을 찾을 수 없는 경우
      */
-    @Transactional
     public CommentResponseDto createComment(String articleId, CommentRequestDto requestDto, String memberId, String nickname) {
-        // 게시글 조회
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new ArticleNotFoundException("댓글을 작성하려는 게시글을 찾을 수 없습니다: " + articleId));
+        // 게시글 존재 여부 확인
+        if (!mongoTemplate.exists(Query.query(Criteria.where("_id").is(articleId)), Article.class)) {
+            throw new ArticleNotFoundException("댓글을 작성하려는 게시글을 찾을 수 없습니다: " + articleId);
+        }
 
-        // 댓글 생성
+        // 댓글 생성 및 저장
         Author author = new Author(memberId, nickname);
         Comment comment = new Comment(
                 UUID.randomUUID().toString(),
@@ -52,48 +65,93 @@ public class CommentService {
                 requestDto.getContent(),
                 LocalDateTime.now()
         );
+        comment.setArticleId(articleId);
+        commentRepository.insert(comment);
 
-        // 게시글의 댓글 목록에 추가
-        if (article.getComments() == null) {
-            article.setComments(new ArrayList<>());
-        }
-        article.getComments().add(comment);
-
-        // 게시글 저장
-        articleRepository.save(article);
+        // 게시글의 댓글 수 증가
+        incrementCommentsCount(articleId, 1);
 
         // 응답 반환
         return new CommentResponseDto(comment.getId(), "댓글이 성공적으로 작성되었습니다.");
     }
 
+    /**
+     * 게시글의 댓글을 작성순(createdAt, _id)으로 커서 페이지네이션하여 조회합니다.
+     *
+     * @param articleId 게시글 ID
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param size 페이지 당 댓글 수 (PageSizeLimits 범위로 보정)
+     * @return 댓글 목록, 전체 댓글 수, 다음 커서를 담은 응답 DTO
+     * @throws ArticleNotFoundException 게시글을 찾을 수 없는 경우
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 (400)
+     */
+    public CommentPageResponseDto findComments(String articleId, String cursor, int size) {
+        // 전체 댓글 수는 게시글에 저장된 commentsCount 사용 (게시글 존재 여부 확인 겸용)
+        Query articleQuery = Query.query(Criteria.where("_id").is(articleId));
+        articleQuery.fields().include("commentsCount");
+        Article article = mongoTemplate.findOne(articleQuery, Article.class);
+        if (article == null) {
+            throw new ArticleNotFoundException("해당 ID의 게시글을 찾을 수 없습니다: " + articleId);
+        }
+
+        return findCommentPage(articleId, cursor, size, article.getCommentsCount());
+    }
+
+    /**
+     * 전체 댓글 수를 이미 알고 있는 경우(게시글 상세 조회 등) 게시글 재조회 없이 댓글 페이지를 조회합니다.
+     */
+    public CommentPageResponseDto findCommentPage(String articleId, String cursor, int size, long totalComments) {
+        Query query = Query.query(Criteria.where("articleId").is(articleId));
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            if (!CURSOR_TYPE.equals(parts[0])) {
+                throw CursorCodec.invalidCursor();
+            }
+            LocalDateTime createdAt;
+            try {
+                createdAt = LocalDateTime.parse(parts[1]);
+            } catch (DateTimeParseException e) {
+                throw CursorCodec.invalidCursor();
+            }
+            // (createdAt, _id) > (c, id)
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdAt").gt(createdAt),
+                    Criteria.where("createdAt").is(createdAt).and("_id").gt(parts[2])
+            ));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (0 이하/과도한 크기는 허용 범위로 보정)
+        size = PageSizeLimits.clamp(size);
+        query.with(Sort.by(Sort.Direction.ASC, "createdAt", "_id")).limit(size + 1);
+        List<Comment> comments = mongoTemplate.find(query, Comment.class);
+
+        String nextCursor = null;
+        if (comments.size() > size) {
+            comments = comments.subList(0, size);
+            Comment last = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(CURSOR_TYPE, last.getCreatedAt().toString(), last.getId());
+        }
+
+        return new CommentPageResponseDto(comments, totalComments, nextCursor);
+    }
+
     /**
      * 댓글을 삭제합니다.
      *
      * @param articleId 댓글이 작성된 게시글 ID
      * @param commentId 삭제할 댓글 ID
      * @param loggedInMemberId 현재 로그인한 사용자의 ID
-     * @throws ArticleNotFoundException 게시글을 찾을 수 없는 경우
      * @throws CommentNotFoundException 댓글을 찾을 수 없는 경우
      * @throws UnauthorizedOperationException 삭제 권한이 없는 경우 (본인 댓글이 아닌 경우)
      */
-    @Transactional
     public void deleteComment(String articleId, String commentId, String loggedInMemberId) {
-        // 게시글 조회
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new ArticleNotFoundException("댓글을 삭제하려는 게시글을 찾을 수 없습니다: " + articleId));
-
-        // 게시글의 댓글 목록에서 해당 ID를 가진 댓글 찾기
-        List<Comment> comments = article.getComments();
-        if (comments == null || comments.isEmpty()) {
-            throw new CommentNotFoundException("해당 게시글에 댓글이 없습니다.");
+        // 게시글에 달린 해당 ID의 댓글 찾기
+        Query commentQuery = Query.query(Criteria.where("_id").is(commentId).and("articleId").is(articleId));
+        Comment commentToDelete = mongoTemplate.findOne(commentQuery, Comment.class);
+        if (commentToDelete == null) {
+            throw new CommentNotFoundException("해당 ID의 댓글을 찾을 수 없습니다: " + commentId);
         }
 
-        // 댓글 찾기
-        Comment commentToDelete = comments.stream()
-                .filter(c -> c.getId().equals(commentId))
-                .findFirst()
-                .orElseThrow(() -> new CommentNotFoundException("해당 ID의 댓글을 찾을 수 없습니다: " + commentId));
-
         // 댓글 작성자 확인
         if (commentToDelete.getAuthor() == null || 
             commentToDelete.getAuthor().getMemberId() == null || 
@@ -101,10 +159,19 @@ public class CommentService {
             throw new UnauthorizedOperationException("해당 댓글을 삭제할 권한이 없습니다.");
         }
 
-        // 댓글 삭제
-        comments.remove(commentToDelete);
+        // 댓글 삭제 (동시에 삭제 요청이 와도 실제로 삭제한 요청만 댓글 수를 감소)
+        long deleted = mongoTemplate.remove(commentQuery, Comment.class).getDeletedCount();
+        if (deleted > 0) {
+            incrementCommentsCount(articleId, -1);
+        }
+    }
 
-        // 게시글 저장
-        articleRepository.save(article);
+    // 게시글의 댓글 수를 원자적으로 증감 (감소 시 0 미만으로 내려가지 않도록 조건부)
+    private void incrementCommentsCount(String articleId, int delta) {
+        Query query = Query.query(Criteria.where("_id").is(articleId));
+        if (delta < 0) {
+            query.addCriteria(Criteria.where("commentsCount").gte(-delta));
+        }
+        mongoTemplate.updateFirst(query, new Update().inc("commentsCount", delta), Article.class);
     }
-} 
\ No newline at end of file
+}
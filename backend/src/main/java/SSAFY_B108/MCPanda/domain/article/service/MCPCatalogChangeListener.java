@@ -0,0 +1,56 @@
+package SSAFY_B108.MCPanda.domain.article.service;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListener;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * mcps 컬렉션의 change stream을 구독하여 MCP 카탈로그를 갱신하는 컴포넌트
+ * 다른 인스턴스(또는 DB 직접 수정)에서 발생한 변경도 반영하기 위해 사용합니다.
+ * change stream은 replica set 환경에서만 동작하므로 mcp.catalog.change-stream.enabled=true 일 때만 활성화됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "mcp.catalog.change-stream.enabled", havingValue = "true")
+public class MCPCatalogChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MCPCatalogChangeListener.class);
+
+    private final MCPService mcpService;
+    private final MessageListenerContainer container;
+
+    public MCPCatalogChangeListener(MCPService mcpService, MongoTemplate mongoTemplate) {
+        this.mcpService = mcpService;
+        this.container = new DefaultMessageListenerContainer(mongoTemplate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        MessageListener<ChangeStreamDocument<Document>, Document> listener = message -> {
+            log.debug("mcps 컬렉션 변경 감지: {}", message.getRaw() != null ? message.getRaw().getOperationType() : null);
+            mcpService.refreshCatalog();
+        };
+
+        ChangeStreamRequest<Document> request = ChangeStreamRequest.builder(listener)
+                .collection("mcps")
+                .build();
+
+        container.start();
+        container.register(request, Document.class);
+        log.info("MCP 카탈로그 change stream 구독 시작");
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        container.stop();
+    }
+}
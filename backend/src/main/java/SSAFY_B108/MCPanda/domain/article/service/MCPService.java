@@ -1,14 +1,39 @@
 package SSAFY_B108.MCPanda.domain.article.service;
 
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
 import SSAFY_B108.MCPanda.domain.article.entity.MCP;
+import SSAFY_B108.MCPanda.domain.article.entity.McpCategory;
 import SSAFY_B108.MCPanda.domain.article.repository.MCPRepository;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import SSAFY_B108.MCPanda.domain.article.dto.MCPCreateRequestDto;
 import SSAFY_B108.MCPanda.domain.article.dto.MCPResponseDto;
@@ -16,30 +41,54 @@ import SSAFY_B108.MCPanda.domain.article.dto.MCPResponseDto;
 @Service
 public class MCPService {
 
+    private static final Logger log = LoggerFactory.getLogger(MCPService.class);
+    private static final int RETAG_BATCH_SIZE = 500;
+
     private final MCPRepository mcpRepository;
+    private final MongoTemplate mongoTemplate;
+
+    // mcps 컬렉션 전체를 담은 불변 스냅샷 (최초 조회 시 로드, 변경 시 통째로 교체)
+    private final AtomicReference<MCPCatalog> catalogRef = new AtomicReference<>();
 
     @Autowired
-    public MCPService(MCPRepository mcpRepository) {
+    public MCPService(MCPRepository mcpRepository, MongoTemplate mongoTemplate) {
         this.mcpRepository = mcpRepository;
+        this.mongoTemplate = mongoTemplate;
     }
 
     /**
      * 새로운 MCP를 등록합니다.
      * @param mcp 등록할 MCP 정보
      * @return 등록된 MCP 정보
+     * @throws CustomException 알 수 없는 카테고리인 경우 (400)
      */
     @Transactional
     public MCP registerMCP(MCP mcp) {
+        // 카테고리는 저장 시점에 한 번만 정규화 (예: "infra" -> "Infrastructure"), 알 수 없는 값은 거부
+        if (mcp.getCategory() != null) {
+            McpCategory category = McpCategory.from(mcp.getCategory())
+                    .orElseThrow(() -> new CustomException(ApiStatusCode.BAD_REQUEST,
+                            "알 수 없는 MCP 카테고리입니다: " + mcp.getCategory()));
+            mcp.setCategory(category.getLabel());
+        }
+
         // 이미 동일한 이름의 MCP가 존재하는지 확인
         Optional<MCP> existingMCP = mcpRepository.findByName(mcp.getName());
         if (existingMCP.isPresent()) {
             // 기존 MCP 정보 업데이트
             MCP updateMCP = existingMCP.get();
             updateMCP.setMcpServers(mcp.getMcpServers());
-            return mcpRepository.save(updateMCP);
+            // 이전에 정규화되지 않은 채로 저장된 카테고리도 알려진 표기이면 함께 정리 (알 수 없는 값은 원래 값 유지)
+            McpCategory.from(updateMCP.getCategory())
+                    .ifPresent(category -> updateMCP.setCategory(category.getLabel()));
+            MCP saved = mcpRepository.save(updateMCP);
+            refreshCatalog();
+            return saved;
         }
         // 새 MCP 등록
-        return mcpRepository.save(mcp);
+        MCP saved = mcpRepository.save(mcp);
+        refreshCatalog();
+        return saved;
     }
 
     /**
@@ -48,7 +97,15 @@ public class MCPService {
      */
     @Transactional(readOnly = true)
     public List<MCP> getAllMCPs() {
-        return mcpRepository.findAll();
+        return catalog().mcps();
+    }
+
+    /**
+     * 모든 MCP 정보를 미리 변환해 둔 ResponseDTO 목록으로 조회합니다.
+     * @return MCP 응답 DTO 목록
+     */
+    public List<MCPResponseDto> getAllMCPDtos() {
+        return catalog().dtos();
     }
 
     /**
@@ -58,7 +115,57 @@ public class MCPService {
      */
     @Transactional(readOnly = true)
     public Optional<MCP> getMCPByName(String name) {
-        return mcpRepository.findByName(name);
+        return Optional.ofNullable(catalog().byName().get(name));
+    }
+
+    /**
+     * 여러 이름에 해당하는 MCP 정보를 한 번에 조회합니다. 카탈로그에 없는 이름은 결과에서 제외됩니다.
+     * @param names MCP 이름 목록
+     * @return MCP 이름 -> MCP 정보
+     */
+    public Map<String, MCP> getMCPsByNames(Collection<String> names) {
+        Map<String, MCP> byName = catalog().byName();
+        Map<String, MCP> result = new LinkedHashMap<>();
+        for (String name : names) {
+            MCP mcp = byName.get(name);
+            if (mcp != null) {
+                result.put(name, mcp);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리에 속한 MCP 이름 목록을 조회합니다.
+     * @param category MCP 카테고리
+     * @return MCP 이름 목록 (없으면 빈 목록)
+     */
+    public List<String> getMCPNamesByCategory(McpCategory category) {
+        return catalog().namesByCategory().getOrDefault(category, Collections.emptyList());
+    }
+
+    /**
+     * MCP 이름 목록에 해당하는 정규 카테고리 태그를 계산합니다. (게시글 비정규화용)
+     * @param names MCP 이름 목록
+     * @return 중복 없이 정렬된 McpCategory.name() 목록 (카탈로그에 없는 이름은 무시)
+     */
+    public List<String> resolveCategoryTags(Collection<String> names) {
+        Map<String, MCP> byName = catalog().byName();
+        return names.stream()
+                .map(byName::get)
+                .filter(Objects::nonNull)
+                .map(mcp -> McpCategory.fromOrEtc(mcp.getCategory()))
+                .distinct()
+                .sorted()
+                .map(Enum::name)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 현재 카탈로그 버전을 반환합니다. 카탈로그가 새로 로드될 때마다 1씩 증가합니다.
+     */
+    public long getCatalogVersion() {
+        return catalog().version();
     }
 
     /**
@@ -78,6 +185,109 @@ public class MCPService {
     @Transactional
     public void deleteMCP(String id) {
         mcpRepository.deleteById(id);
+        refreshCatalog();
+    }
+
+    /**
+     * mcps 컬렉션을 다시 읽어 카탈로그 스냅샷을 원자적으로 교체합니다.
+     * MCP 등록/삭제 시, 그리고 change stream 이벤트 수신 시 호출됩니다.
+     * 이전 카탈로그와 비교해 추가/삭제되었거나 카테고리가 바뀐 MCP가 있으면, 해당 MCP가 태그된 게시글의 mcpCategories를 다시 계산합니다.
+     * @return 새로 만들어진 카탈로그
+     */
+    public synchronized MCPCatalog refreshCatalog() {
+        List<MCP> mcps = mcpRepository.findAll();
+
+        Map<String, MCP> byName = new HashMap<>();
+        Map<McpCategory, List<String>> namesByCategory = new EnumMap<>(McpCategory.class);
+        for (MCP mcp : mcps) {
+            if (mcp.getName() == null) {
+                continue;
+            }
+            byName.put(mcp.getName(), mcp);
+            // 정규화 이전에 저장된 레코드도 같은 카테고리로 묶이도록 로드 시점에 변환
+            namesByCategory.computeIfAbsent(McpCategory.fromOrEtc(mcp.getCategory()), key -> new ArrayList<>())
+                    .add(mcp.getName());
+        }
+        namesByCategory.replaceAll((category, names) -> List.copyOf(names));
+
+        MCPCatalog previous = catalogRef.get();
+        long version = previous == null ? 1 : previous.version() + 1;
+        MCPCatalog catalog = new MCPCatalog(
+                version,
+                List.copyOf(mcps),
+                Map.copyOf(byName),
+                Map.copyOf(namesByCategory),
+                List.copyOf(convertToDtoList(mcps))
+        );
+        catalogRef.set(catalog);
+
+        // 최초 로드 시에는 비교 대상이 없으므로 건너뜀 (태그가 없는 게시글은 ArticleTagBackfillRunner가 채움)
+        if (previous != null) {
+            retagArticles(changedNames(previous.byName(), byName));
+        }
+        return catalog;
+    }
+
+    // 두 카탈로그 사이에 추가/삭제되었거나 정규 카테고리가 바뀐 MCP 이름
+    private Set<String> changedNames(Map<String, MCP> before, Map<String, MCP> after) {
+        Set<String> names = new HashSet<>(before.keySet());
+        names.addAll(after.keySet());
+        names.removeIf(name -> before.containsKey(name) && after.containsKey(name)
+                && McpCategory.fromOrEtc(before.get(name).getCategory()) == McpCategory.fromOrEtc(after.get(name).getCategory()));
+        return names;
+    }
+
+    /**
+     * 변경된 MCP가 태그된 게시글의 mcpCategories를 현재 카탈로그 기준으로 다시 계산합니다.
+     * 게시글의 카테고리 태그는 여러 MCP로부터 만들어지므로 게시글마다 mcpNames 전체로 다시 계산하여 BATCH 단위로 반영합니다.
+     */
+    private void retagArticles(Set<String> changedNames) {
+        if (changedNames.isEmpty()) {
+            return;
+        }
+
+        Query query = Query.query(Criteria.where("mcpNames").in(changedNames));
+        query.fields().include("mcpNames");
+
+        long updated = 0;
+        int pending = 0;
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+
+        try (Stream<Article> articles = mongoTemplate.stream(query, Article.class)) {
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                List<String> names = article.getMcpNames() != null ? article.getMcpNames() : Collections.emptyList();
+                bulkOps.updateOne(Query.query(Criteria.where("id").is(article.getId())),
+                        new Update().set("mcpCategories", resolveCategoryTags(names)));
+
+                if (++pending == RETAG_BATCH_SIZE) {
+                    bulkOps.execute();
+                    updated += pending;
+                    pending = 0;
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+                }
+            }
+
+            if (pending > 0) {
+                bulkOps.execute();
+                updated += pending;
+            }
+        } catch (DataAccessException e) {
+            // 카탈로그 갱신 자체는 유지하고, 남은 게시글은 다음 변경 시 다시 계산
+            log.error("게시글 MCP 카테고리 태그 갱신 실패 (MCP: {}): {}", changedNames, e.getMessage());
+            return;
+        }
+
+        if (updated > 0) {
+            log.info("게시글 MCP 카테고리 태그 갱신: {}건 (MCP: {})", updated, changedNames);
+        }
+    }
+
+    // 현재 카탈로그 스냅샷 (아직 로드되지 않았다면 이 시점에 로드)
+    private MCPCatalog catalog() {
+        MCPCatalog catalog = catalogRef.get();
+        return catalog != null ? catalog : refreshCatalog();
     }
 
     /**
@@ -102,4 +312,19 @@ public class MCPService {
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * MCP 카탈로그 스냅샷
+     * @param version 카탈로그 버전
+     * @param mcps 전체 MCP 목록
+     * @param byName MCP 이름 -> MCP
+     * @param namesByCategory 정규 카테고리 -> MCP 이름 목록
+     * @param dtos 미리 변환해 둔 응답 DTO 목록
+     */
+    public record MCPCatalog(long version,
+                             List<MCP> mcps,
+                             Map<String, MCP> byName,
+                             Map<McpCategory, List<String>> namesByCategory,
+                             List<MCPResponseDto> dtos) {
+    }
 }
@@ -0,0 +1,159 @@
+package SSAFY_B108.MCPanda.domain.article.service;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 추천수 write-behind 집계기
+ * 추천/추천 취소마다 articles 문서에 바로 쓰지 않고 게시글별 증감을 ConcurrentHashMap.merge로 모았다가,
+ * 주기적으로(article.recommend.flush-interval-ms) 순증감만 bulkWrite $inc로 반영합니다.
+ * 아직 반영되지 않은 증감은 pendingDelta로 조회하여 응답의 추천수에 더해 줍니다.
+ */
+@Component
+public class RecommendCountAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendCountAggregator.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 추천수 증감
+    // 증감 기록(merge)과 flush 시 가져가기(remove)가 모두 맵의 원자 연산이므로 동시에 기록된 증감이 유실되지 않습니다.
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    // flush가 가져가서 DB에 반영 중인 증감 (반영 완료 전까지 pendingDelta에 포함)
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RecommendCountAggregator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * 추천수 증감을 기록합니다.
+     */
+    public void add(String articleId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        // 합이 0이 되면 엔트리 제거
+        pending.merge(articleId, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 추천수 증감을 반환합니다.
+     */
+    public long pendingDelta(String articleId) {
+        return pending.getOrDefault(articleId, 0L) + inFlight.getOrDefault(articleId, 0L);
+    }
+
+    /**
+     * 저장된 추천수에 반영 대기 중인 증감을 더한 값을 반환합니다. (음수 방지)
+     */
+    public int overlay(String articleId, int storedCount) {
+        return (int) Math.max(0L, storedCount + pendingDelta(articleId));
+    }
+
+    /**
+     * 삭제된 게시글의 대기 중인 증감을 버립니다.
+     */
+    public void discard(String articleId) {
+        pending.remove(articleId);
+    }
+
+    /**
+     * 모인 증감을 DB에 반영합니다.
+     * 실패한 연산의 증감만 다시 모으고, 이미 반영된 증감은 다시 모으지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${article.recommend.flush-interval-ms:500}")
+    public synchronized void flush() {
+        List<String> articleIds = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        for (String articleId : pending.keySet()) {
+            // 엔트리를 원자적으로 가져가므로 이후 기록되는 증감은 새 엔트리에 모여 다음 주기에 반영
+            Long delta = pending.remove(articleId);
+            if (delta != null && delta != 0) {
+                inFlight.put(articleId, delta);
+                articleIds.add(articleId);
+                deltas.add(delta);
+            }
+        }
+
+        if (articleIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            execute(articleIds, deltas);
+        } finally {
+            // 예기치 못한 예외로 execute가 중단된 경우에도 반영 중 표시는 정리
+            articleIds.forEach(inFlight::remove);
+        }
+    }
+
+    private void execute(List<String> articleIds, List<Long> deltas) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+        for (int i = 0; i < articleIds.size(); i++) {
+            bulkOps.updateOne(Query.query(Criteria.where("_id").is(articleIds.get(i))),
+                    new Update().inc("recommendCount", deltas.get(i)));
+        }
+
+        try {
+            bulkOps.execute();
+            articleIds.forEach(inFlight::remove);
+        } catch (BulkOperationException e) {
+            // 반영 중 표시를 먼저 지운 뒤 재시도할 증감을 기록하여 pendingDelta에 두 번 더해지지 않도록 함
+            articleIds.forEach(inFlight::remove);
+            // UNORDERED 모드에서는 실패한 연산만 반영되지 않으므로 해당 증감만 다음 주기에 재시도
+            for (BulkWriteError error : e.getErrors()) {
+                add(articleIds.get(error.getIndex()), deltas.get(error.getIndex()));
+            }
+            log.error("추천수 일부 반영 실패 ({}/{}건), 다음 주기에 재시도합니다: {}",
+                    e.getErrors().size(), articleIds.size(), e.getMessage());
+        } catch (DataAccessException e) {
+            // 요청 자체가 실패한 경우 (반영된 연산 없음) 전체 재시도
+            log.error("추천수 반영 실패 ({}건), 다음 주기에 재시도합니다: {}", articleIds.size(), e.getMessage());
+            articleIds.forEach(inFlight::remove);
+            for (int i = 0; i < articleIds.size(); i++) {
+                add(articleIds.get(i), deltas.get(i));
+            }
+            return;
+        }
+
+        try {
+            // 저장된 값이 이미 어긋나 있던 경우 감소분 반영으로 음수가 될 수 있으므로 0으로 보정
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(articleIds).and("recommendCount").lt(0)),
+                    new Update().set("recommendCount", 0),
+                    Article.class);
+        } catch (DataAccessException e) {
+            // 증감은 이미 반영되었으므로 재시도하지 않음 (음수 값은 다음 보정 시 정리)
+            log.warn("추천수 음수 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 남은 증감을 모두 반영합니다.
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
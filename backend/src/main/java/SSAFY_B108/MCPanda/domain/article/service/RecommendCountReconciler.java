@@ -0,0 +1,255 @@
+package SSAFY_B108.MCPanda.domain.article.service;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Article;
+import SSAFY_B108.MCPanda.domain.article.entity.Recommendation;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * recommendations 컬렉션과 articles.recommendCount 간 불일치를 바로잡는 배치 작업
+ * 1) 추천 기록이 있는 게시글 ID를 스트리밍하며 청크 단위로 추천 기록 수를 다시 세어 recommendCount와 비교해 보정하고,
+ *    존재하지 않는 게시글의 추천 기록(고아 데이터)은 삭제합니다.
+ * 2) 추천 기록이 하나도 없는데 recommendCount가 0이 아닌 게시글을 0으로 보정합니다.
+ * 트래픽이 적은 시간대(article.recommend.reconcile.cron)에 실행되며, 청크 사이에 쉬어 가며 DB 부하를 제한합니다.
+ * 청크 사이에 대기하므로 공용 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다. (flush, 폐기 목록 재생성 등이 밀리지 않도록)
+ * 반영 대기 중인 증감(pendingDelta)은 이 인스턴스의 RecommendCountAggregator만 확인하므로 단일 노드 배포 전용입니다.
+ * 여러 노드로 배포할 때는 다른 노드의 미반영 증감이 이중으로 더해질 수 있으므로 모든 노드에서 cron을 "-"로 비활성화해야 합니다.
+ */
+@Component
+public class RecommendCountReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendCountReconciler.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final RecommendCountAggregator recommendCountAggregator;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    // 보정 작업 전용 스레드 (실행 중이면 다음 트리거는 건너뜀)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommend-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public RecommendCountReconciler(MongoTemplate mongoTemplate,
+                                    RecommendCountAggregator recommendCountAggregator,
+                                    @Value("${article.recommend.reconcile.chunk-size:500}") int chunkSize,
+                                    @Value("${article.recommend.reconcile.pause-ms:200}") long pauseMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.recommendCountAggregator = recommendCountAggregator;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * 보정 작업을 전용 스레드에 맡기고 바로 반환합니다. (스케줄러 스레드를 점유하지 않음)
+     */
+    @Scheduled(cron = "${article.recommend.reconcile.cron:0 30 4 * * *}")
+    public void scheduleReconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 추천수 정합성 보정이 아직 실행 중이므로 이번 실행은 건너뜁니다.");
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                log.error("추천수 정합성 보정 실패: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 청크 사이 대기 중이면 인터럽트로 중단
+        executor.shutdownNow();
+    }
+
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            Result result = reconcileVotedArticles();
+            result.zeroed = zeroUnvotedArticles();
+            log.info("추천수 정합성 보정 완료 ({}ms) - 보정: {}건, 고아 추천 기록 삭제: {}건, 0으로 보정: {}건",
+                    System.currentTimeMillis() - start, result.repaired, result.purged, result.zeroed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("추천수 정합성 보정이 중단되었습니다.");
+        }
+    }
+
+    // 1단계: articleId별 추천 기록 수와 recommendCount 비교
+    // 스트리밍 집계는 추천 기록이 있는 게시글 ID를 나열하는 데만 사용하고, 추천 기록 수는 청크마다 비교 직전에 다시 셉니다.
+    // (긴 스트림 도중 집계된 값은 비교 시점에 이미 오래되어 정상 값을 되돌려 놓을 수 있음)
+    private Result reconcileVotedArticles() throws InterruptedException {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("articleId"),
+                Aggregation.sort(Sort.Direction.ASC, "_id")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        Result result = new Result();
+        List<String> chunk = new ArrayList<>();
+
+        try (Stream<Document> groups = mongoTemplate.aggregateStream(aggregation,
+                mongoTemplate.getCollectionName(Recommendation.class), Document.class)) {
+            Iterator<Document> iterator = groups.iterator();
+            while (iterator.hasNext()) {
+                Object articleId = iterator.next().get("_id");
+                if (articleId == null) {
+                    continue;
+                }
+                chunk.add(articleId.toString());
+
+                if (chunk.size() >= chunkSize) {
+                    reconcileChunk(chunk, result);
+                    chunk.clear();
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            reconcileChunk(chunk, result);
+        }
+        return result;
+    }
+
+    private void reconcileChunk(List<String> articleIds, Result result) {
+        Query query = Query.query(Criteria.where("_id").in(articleIds));
+        query.fields().include("recommendCount");
+
+        Map<String, Integer> storedCounts = new HashMap<>();
+        for (Article article : mongoTemplate.find(query, Article.class)) {
+            storedCounts.put(article.getId(), article.getRecommendCount());
+        }
+
+        Map<String, Long> voteCounts = countVotes(articleIds);
+
+        List<String> orphans = new ArrayList<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+        int repairs = 0;
+
+        for (Map.Entry<String, Long> entry : voteCounts.entrySet()) {
+            String articleId = entry.getKey();
+            Integer stored = storedCounts.get(articleId);
+
+            if (stored == null) {
+                orphans.add(articleId);
+            } else if (stored.longValue() != entry.getValue() && recommendCountAggregator.pendingDelta(articleId) == 0) {
+                // 반영 대기 중인 증감이 있는 게시글은 건너뛰고, 조회 이후 값이 바뀐 경우에도 덮어쓰지 않도록 조건부 갱신
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(articleId).and("recommendCount").is(stored)),
+                        new Update().set("recommendCount", entry.getValue()));
+                repairs++;
+            }
+        }
+
+        if (repairs > 0) {
+            result.repaired += bulkOps.execute().getModifiedCount();
+        }
+        if (!orphans.isEmpty()) {
+            result.purged += mongoTemplate.remove(
+                    Query.query(Criteria.where("articleId").in(orphans)), Recommendation.class).getDeletedCount();
+        }
+    }
+
+    // 청크에 속한 게시글의 현재 추천 기록 수 (그 사이 추천이 모두 취소된 게시글은 결과에 없으며 2단계에서 보정)
+    private Map<String, Long> countVotes(List<String> articleIds) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("articleId").in(articleIds)),
+                Aggregation.group("articleId").count().as("count")
+        );
+
+        Map<String, Long> voteCounts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation,
+                mongoTemplate.getCollectionName(Recommendation.class), Document.class)) {
+            voteCounts.put(group.get("_id").toString(), ((Number) group.get("count")).longValue());
+        }
+        return voteCounts;
+    }
+
+    // 2단계: 추천 기록이 없는데 recommendCount가 0이 아닌 게시글 보정
+    private long zeroUnvotedArticles() throws InterruptedException {
+        Query query = Query.query(Criteria.where("recommendCount").ne(0));
+        query.fields().include("recommendCount");
+
+        long zeroed = 0;
+        Map<String, Integer> chunk = new HashMap<>();
+
+        try (Stream<Article> articles = mongoTemplate.stream(query, Article.class)) {
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                Article article = iterator.next();
+                chunk.put(article.getId(), article.getRecommendCount());
+
+                if (chunk.size() >= chunkSize) {
+                    zeroed += zeroChunk(chunk);
+                    chunk.clear();
+                    Thread.sleep(pauseMillis);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            zeroed += zeroChunk(chunk);
+        }
+        return zeroed;
+    }
+
+    private long zeroChunk(Map<String, Integer> storedCounts) {
+        Query votedQuery = Query.query(Criteria.where("articleId").in(storedCounts.keySet()));
+        Set<String> voted = new HashSet<>(mongoTemplate.findDistinct(votedQuery, "articleId", Recommendation.class, String.class));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Article.class);
+        int repairs = 0;
+
+        for (Map.Entry<String, Integer> entry : storedCounts.entrySet()) {
+            String articleId = entry.getKey();
+            if (!voted.contains(articleId) && recommendCountAggregator.pendingDelta(articleId) == 0) {
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(articleId).and("recommendCount").is(entry.getValue())),
+                        new Update().set("recommendCount", 0));
+                repairs++;
+            }
+        }
+
+        return repairs > 0 ? bulkOps.execute().getModifiedCount() : 0;
+    }
+
+    private static class Result {
+        private long repaired;
+        private long purged;
+        private long zeroed;
+    }
+}
@@ -0,0 +1,136 @@
+package SSAFY_B108.MCPanda.domain.article.service;
+
+import SSAFY_B108.MCPanda.domain.article.entity.Recommendation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 게시글 추천 여부 조회 서비스
+ * 목록의 게시글 ID들을 한 번의 $in 쿼리(member_article_unique 인덱스)로 조회하고,
+ * 결과를 회원별로 짧은 TTL 동안 캐시하여 게시글마다 추천 여부를 조회하는 N+1 쿼리를 없앱니다.
+ */
+@Service
+public class RecommendationService {
+
+    private final MongoTemplate mongoTemplate;
+    private final long ttlMillis;
+    private final int maxMembers;
+
+    // 회원 ID -> (게시글 ID -> 추천 여부)
+    private final Map<String, MemberLikes> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RecommendationService(MongoTemplate mongoTemplate,
+                                 @Value("${article.liked-cache.ttl-ms:60000}") long ttlMillis,
+                                 @Value("${article.liked-cache.max-members:10000}") int maxMembers) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttlMillis = ttlMillis;
+        this.maxMembers = maxMembers;
+    }
+
+    /**
+     * 주어진 게시글 중 회원이 추천한 게시글 ID 목록을 반환합니다.
+     *
+     * @param memberId 회원 ID (null이면 빈 집합)
+     * @param articleIds 확인할 게시글 ID 목록 (보통 한 페이지 분량)
+     * @return 추천한 게시글 ID 집합
+     */
+    public Set<String> findLikedArticleIds(String memberId, Collection<String> articleIds) {
+        Set<String> liked = new HashSet<>();
+        if (memberId == null || articleIds == null || articleIds.isEmpty()) {
+            return liked;
+        }
+
+        MemberLikes memberLikes = memberLikes(memberId);
+
+        // 캐시에 없는 게시글만 모아서 한 번에 조회
+        List<String> misses = new ArrayList<>();
+        for (String articleId : articleIds) {
+            Boolean known = memberLikes.states.get(articleId);
+            if (known == null) {
+                misses.add(articleId);
+            } else if (known) {
+                liked.add(articleId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Query query = Query.query(Criteria.where("memberId").is(memberId).and("articleId").in(misses));
+            query.fields().include("articleId").exclude("_id"); // 인덱스만으로 처리되는 covered query
+
+            Set<String> found = new HashSet<>();
+            for (Recommendation recommendation : mongoTemplate.find(query, Recommendation.class)) {
+                found.add(recommendation.getArticleId());
+            }
+
+            for (String articleId : misses) {
+                // 조회하는 사이 recordToggle로 기록된 최신 상태가 있으면 그 값을 유지
+                Boolean previous = memberLikes.states.putIfAbsent(articleId, found.contains(articleId));
+                boolean isLiked = previous != null ? previous : found.contains(articleId);
+                if (isLiked) {
+                    liked.add(articleId);
+                }
+            }
+        }
+
+        return liked;
+    }
+
+    /**
+     * 회원이 게시글을 추천했는지 확인합니다.
+     */
+    public boolean isLiked(String memberId, String articleId) {
+        return findLikedArticleIds(memberId, List.of(articleId)).contains(articleId);
+    }
+
+    /**
+     * 추천/추천 취소 결과를 캐시에 반영합니다.
+     */
+    public void recordToggle(String memberId, String articleId, boolean liked) {
+        MemberLikes memberLikes = cache.get(memberId);
+        if (memberLikes != null) {
+            memberLikes.states.put(articleId, liked);
+        }
+    }
+
+    // 회원의 캐시 엔트리를 반환 (만료되었으면 새로 생성)
+    private MemberLikes memberLikes(String memberId) {
+        long now = System.currentTimeMillis();
+        MemberLikes memberLikes = cache.get(memberId);
+        if (memberLikes != null && memberLikes.expiresAt > now) {
+            return memberLikes;
+        }
+
+        if (cache.size() >= maxMembers) {
+            cache.entrySet().removeIf(entry -> entry.getValue().expiresAt <= now);
+            if (cache.size() >= maxMembers) {
+                cache.clear();
+            }
+        }
+
+        memberLikes = new MemberLikes(now + ttlMillis);
+        cache.put(memberId, memberLikes);
+        return memberLikes;
+    }
+
+    private static class MemberLikes {
+        private final long expiresAt;
+        private final Map<String, Boolean> states = new ConcurrentHashMap<>();
+
+        private MemberLikes(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package SSAFY_B108.MCPanda.domain.auth.controller;
 import SSAFY_B108.MCPanda.domain.auth.dto.TokenDto;
 import SSAFY_B108.MCPanda.domain.auth.service.RefreshTokenService;
 import SSAFY_B108.MCPanda.domain.auth.service.TokenService;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -63,6 +65,15 @@ public class AuthController {
             newTokens.setSuccess(true); // 성공 여부 설정
             return ResponseEntity.ok(newTokens);
         } catch (RuntimeException e) {
+            if (e instanceof CustomException customException
+                    && customException.getApiStatusCode() == ApiStatusCode.CONFLICT) {
+                // 병렬 재발급: 다른 요청이 이미 새 토큰을 발급했으므로 쿠키를 유지
+                log.info("토큰 재발급 충돌: {}", e.getMessage());
+                TokenDto conflictTokenDto = new TokenDto();
+                conflictTokenDto.setSuccess(false);
+                return ResponseEntity.status(409).body(conflictTokenDto); // Conflict
+            }
+
             log.warn("토큰 재발급 실패: {}", e.getMessage());
             // 실패 시 기존 쿠키를 삭제
             refreshTokenService.deleteAccessTokenCookie(response);
@@ -0,0 +1,45 @@
+package SSAFY_B108.MCPanda.domain.auth.controller;
+
+import SSAFY_B108.MCPanda.global.jwt.JwtKeyStore;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증용 공개 키(JWKS) 제공
+ * 엣지 프록시 등 다른 서비스가 백엔드 호출 없이 토큰 서명을 직접 검증할 수 있도록 kid별 공개 키를 공개합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyStore jwtKeyStore;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        List<JWK> keys = jwtKeyStore.getPublicKeys().entrySet().stream()
+                .map(entry -> (JWK) new ECKey.Builder(Curve.P_256, entry.getValue())
+                        .keyID(entry.getKey())
+                        .keyUse(KeyUse.SIGNATURE)
+                        .algorithm(JWSAlgorithm.ES256)
+                        .build())
+                .toList();
+
+        // 공개 키만 포함 (키 교체 반영을 위해 짧게 캐시)
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(new JWKSet(keys).toJSONObject());
+    }
+}
@@ -0,0 +1,32 @@
+package SSAFY_B108.MCPanda.domain.auth.dto;
+
+import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 클레임으로 만든 인증 사용자 정보 (SecurityContext의 Principal)
+ * 요청마다 DB에서 Member를 조회하지 않도록 컨트롤러에 필요한 최소 정보만 담습니다.
+ * 전체 Member 엔티티가 필요한 경우 MemberCache를 통해 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemberPrincipal implements AuthenticatedPrincipal {
+
+    private final String memberId; // Member의 MongoDB ObjectId 문자열
+    private final String email;
+    private final String nickname;
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(member.getId().toString(), member.getEmail(), member.getNickname());
+    }
+
+    /**
+     * Authentication.getName()에 사용되는 값 (회원 ID)
+     */
+    @Override
+    public String getName() {
+        return memberId;
+    }
+}
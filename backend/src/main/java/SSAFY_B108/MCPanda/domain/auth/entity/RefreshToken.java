@@ -12,6 +12,7 @@ import java.time.Instant;
 
 /**
  * RefreshToken을 저장하는 MongoDB 도큐먼트 엔티티
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장하며, 회원당 하나의 도큐먼트만 유지합니다.
  */
 @Getter
 @NoArgsConstructor
@@ -21,15 +22,21 @@ public class RefreshToken {
     @Id
     private String id;
 
-    // 사용자 ID
-    @Indexed
+    // 사용자 ID (회원당 하나의 RefreshToken)
+    @Indexed(unique = true, name = "member_id_unique")
     private String memberId; // Member의 MongoDB ObjectId를 문자열로 저장
 
-    // RefreshToken 값
-    @Indexed(unique = true)
-    private String token;
+    // RefreshToken 값의 SHA-256 해시 (16진수)
+    @Indexed(unique = true, name = "token_hash_unique")
+    private String tokenHash;
 
-    // 만료 시간 - TTL 인덱스는 MongoTTLConfig에서 따로 설정
+    // 직전 RefreshToken의 해시 (재사용 감지용)
+    private String previousTokenHash;
+
+    // 마지막 교체(rotation) 시각
+    private Instant rotatedAt;
+
+    // 만료 시간 - TTL 인덱스는 MongoIndexConfig에서 따로 설정
     private Instant expiryDate;
 
     private Instant createdAt;
@@ -37,19 +44,19 @@ public class RefreshToken {
     private Instant updatedAt;
 
     @Builder
-    public RefreshToken(String memberId, String token, Instant expiryDate) {
+    public RefreshToken(String memberId, String tokenHash, Instant expiryDate) {
         this.memberId = memberId;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiryDate = expiryDate;
         this.createdAt = Instant.now();
         this.updatedAt = Instant.now();
     }
 
     /**
-     * 토큰 값 업데이트
+     * 토큰 해시 업데이트
      */
-    public void updateToken(String token) {
-        this.token = token;
+    public void updateTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
         this.updatedAt = Instant.now();
     }
 
@@ -0,0 +1,30 @@
+package SSAFY_B108.MCPanda.domain.auth.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 폐기된 AccessToken (로그아웃 등)
+ * 토큰의 jti를 키로 저장하며, 토큰 만료 시각(expiresAt)이 지나면 TTL 인덱스로 자동 삭제됩니다.
+ * TTL 인덱스는 MongoIndexConfig에서 설정
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+
+    // AccessToken의 jti
+    @Id
+    private String jti;
+
+    private String memberId;
+
+    // AccessToken 만료 시각
+    private Instant expiresAt;
+}
@@ -3,6 +3,8 @@ package SSAFY_B108.MCPanda.domain.auth.handler;
 import SSAFY_B108.MCPanda.domain.auth.oauth2.dto.CustomOAuth2User;
 import SSAFY_B108.MCPanda.domain.auth.service.RefreshTokenService;
 import SSAFY_B108.MCPanda.global.jwt.JwtTokenProvider;
+import SSAFY_B108.MCPanda.global.jwt.RevokedTokenRegistry;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -14,6 +16,9 @@ import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.Date;
+import java.util.Optional;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -21,6 +26,7 @@ public class CustomLogoutHandler implements LogoutHandler {
 
     private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     @Override
     public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
@@ -46,34 +52,33 @@ public class CustomLogoutHandler implements LogoutHandler {
         }
 
         if (StringUtils.hasText(accessToken)) {
-            try {
-                // AccessToken 유효성 검증 및 memberId 추출
-                if (jwtTokenProvider.validateToken(accessToken)) {
-                    String memberIdFromToken = jwtTokenProvider.getMemberIdFromToken(accessToken); // getMemberIdFromToken 사용 (memberId 반환)
-                    log.info("로그아웃 요청에서 유효한 AccessToken 발견. 사용자 ID: {}", memberIdFromToken);
+            // 로그아웃한 토큰은 검증 캐시에서 제거 (이후 요청은 다시 서명 검증)
+            jwtTokenProvider.evictVerifiedToken(accessToken);
+
+            // AccessToken을 한 번만 파싱 (만료된 토큰도 서명이 유효하면 클레임 사용)
+            Optional<Claims> claims = jwtTokenProvider.parseClaimsAllowExpired(accessToken);
+            if (claims.isPresent()) {
+                String memberIdFromToken = claims.get().getSubject();
+                log.info("로그아웃 요청에서 AccessToken 확인. 사용자 ID: {}", memberIdFromToken);
+
+                try {
+                    // 만료 전 AccessToken은 폐기 목록에 추가 (만료 시각에 자동 삭제)
+                    Date expiration = claims.get().getExpiration();
+                    if (expiration != null) {
+                        revokedTokenRegistry.revoke(claims.get().getId(), memberIdFromToken, expiration.toInstant());
+                    }
 
                     // 추출한 memberId로 DB의 RefreshToken 삭제 시도
                     if (StringUtils.hasText(memberIdFromToken)) {
-                        log.info("AccessToken 기반으로 DB에서 memberId '{}'의 RefreshToken 삭제를 시도합니다.", memberIdFromToken);
                         refreshTokenService.deleteRefreshToken(memberIdFromToken);
                     } else {
                         log.warn("AccessToken에서 memberId를 추출하지 못했습니다.");
                     }
-                } else {
-                    log.info("로그아웃 요청의 AccessToken이 유효하지 않습니다.");
-                }
-            } catch (Exception e) {
-                // ExpiredJwtException 등 발생 시에도 memberId 추출은 가능할 수 있음
-                try {
-                    // 만료된 토큰에서도 memberId 추출 시도
-                    String memberIdFromExpiredToken = jwtTokenProvider.getMemberIdFromToken(accessToken); // getMemberIdFromToken 사용
-                    if (StringUtils.hasText(memberIdFromExpiredToken)) {
-                        log.info("만료된 AccessToken에서 사용자 ID 추출 성공: {}. RefreshToken 삭제 시도.", memberIdFromExpiredToken);
-                        refreshTokenService.deleteRefreshToken(memberIdFromExpiredToken);
-                    }
-                } catch (Exception innerEx) {
-                    log.warn("로그아웃 중 AccessToken 처리 오류 (만료 토큰 처리 포함): {}", e.getMessage());
+                } catch (Exception e) {
+                    log.warn("로그아웃 중 토큰 폐기 처리 오류: {}", e.getMessage());
                 }
+            } else {
+                log.info("로그아웃 요청의 AccessToken이 유효하지 않습니다.");
             }
         } else {
             log.info("로그아웃 요청에서 AccessToken을 찾을 수 없습니다.");
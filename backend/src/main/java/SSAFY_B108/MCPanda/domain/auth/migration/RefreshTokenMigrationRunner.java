@@ -0,0 +1,142 @@
+package SSAFY_B108.MCPanda.domain.auth.migration;
+
+import SSAFY_B108.MCPanda.domain.auth.entity.RefreshToken;
+import SSAFY_B108.MCPanda.global.util.HashUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * refresh_tokens 컬렉션의 기존 데이터를 해시 저장 방식으로 옮기는 마이그레이션 작업
+ * 1) 토큰 원문(token)을 SHA-256 해시(tokenHash)로 바꾸고 원문 필드를 제거합니다.
+ * 2) 회원당 여러 개가 남아 있으면 만료 시간이 가장 늦은 토큰만 남깁니다.
+ * 3) token 필드의 기존 유니크 인덱스와 memberId 일반 인덱스를 제거합니다.
+ * 새 유니크 인덱스(token_hash_unique, member_id_unique)가 생성되기 전에 끝나야 하므로 MongoIndexConfig보다 먼저 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RefreshTokenMigrationRunner implements ApplicationRunner {
+
+    // 이전 버전에서 @Indexed로 생성되던 인덱스 이름
+    private static final Set<String> LEGACY_INDEXES = Set.of("token", "memberId");
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String collection = mongoTemplate.getCollectionName(RefreshToken.class);
+
+        long hashed = hashLegacyTokens(collection);
+        long removed = removeDuplicateMembers(collection);
+        dropLegacyIndexes(collection);
+
+        if (hashed > 0 || removed > 0) {
+            log.info("RefreshToken 마이그레이션 완료: 해시 변환 {}건, 중복 토큰 삭제 {}건", hashed, removed);
+        }
+    }
+
+    // 1단계: 토큰 원문 -> 해시
+    private long hashLegacyTokens(String collection) {
+        Query query = new Query(Criteria.where("token").exists(true));
+        query.fields().include("token");
+
+        long hashed = 0;
+        BulkOperations bulkOps = null;
+        int pending = 0;
+
+        try (Stream<Document> tokens = mongoTemplate.stream(query, Document.class, collection)) {
+            Iterator<Document> iterator = tokens.iterator();
+            while (iterator.hasNext()) {
+                Document token = iterator.next();
+                Update update = new Update().unset("token");
+                if (token.getString("token") != null) {
+                    update.set("tokenHash", HashUtils.sha256Hex(token.getString("token")));
+                }
+
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                bulkOps.updateOne(Query.query(Criteria.where("_id").is(token.get("_id")).and("token").exists(true)), update);
+                pending++;
+
+                if (pending >= BATCH_SIZE) {
+                    hashed += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+        }
+
+        if (bulkOps != null) {
+            hashed += bulkOps.execute().getModifiedCount();
+        }
+        return hashed;
+    }
+
+    // 2단계: 회원당 하나의 토큰만 유지 (만료 시간이 가장 늦은 토큰)
+    private long removeDuplicateMembers(String collection) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("memberId").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        );
+
+        long removed = 0;
+        for (Document duplicate : mongoTemplate.aggregate(aggregation, collection, Document.class)) {
+            Query query = Query.query(Criteria.where("memberId").is(duplicate.get("_id")))
+                    .with(Sort.by(Sort.Direction.DESC, "expiryDate"));
+            query.fields().include("_id");
+
+            List<Object> stale = new ArrayList<>();
+            List<Document> tokens = mongoTemplate.find(query, Document.class, collection);
+            for (int i = 1; i < tokens.size(); i++) {
+                stale.add(tokens.get(i).get("_id"));
+            }
+            removed += mongoTemplate.remove(Query.query(Criteria.where("_id").in(stale)), collection).getDeletedCount();
+        }
+        return removed;
+    }
+
+    // 3단계: 기존 인덱스 제거 (token 필드가 없는 새 도큐먼트가 기존 token 유니크 인덱스에서 충돌하지 않도록)
+    private void dropLegacyIndexes(String collection) {
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+        Set<String> existing = indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+
+        for (String name : LEGACY_INDEXES) {
+            if (existing.contains(name)) {
+                try {
+                    indexOps.dropIndex(name);
+                    log.info("기존 RefreshToken 인덱스 삭제: {}", name);
+                } catch (DataAccessException e) {
+                    log.error("기존 RefreshToken 인덱스 삭제 실패 - {}: {}", name, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -30,4 +30,9 @@ public class CustomOAuth2User extends DefaultOAuth2User {
     public String getMemberId() {
         return (String) this.getAttributes().get("memberId");
     }
+
+    // 편의 메서드: 회원 닉네임 반환 (AccessToken의 nickname 클레임에 사용)
+    public String getNickname() {
+        return (String) this.getAttributes().get("nickname");
+    }
 }
@@ -59,6 +59,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         // OAuth2User 속성에 memberId 추가
         Map<String,Object> attributes = new HashMap<>(oAuth2User.getAttributes());
         attributes.put("memberId",memberId); // <-- MongoDB ObjectId를 String으로 속성에 추가
+        attributes.put("nickname", member.getNickname());
 
         log.info("OAuth2 사용자 정보 로드 완료: email={}, memberId={}", oAuth2UserInfo.getEmail(), memberId);
 
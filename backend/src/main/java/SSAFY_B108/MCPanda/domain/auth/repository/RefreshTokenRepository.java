@@ -1,7 +1,6 @@
 package SSAFY_B108.MCPanda.domain.auth.repository;
 
 import SSAFY_B108.MCPanda.domain.auth.entity.RefreshToken;
-import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
@@ -11,9 +10,9 @@ import java.util.Optional;
  */
 public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
     /**
-     * 토큰 값으로 RefreshToken 조회
+     * 토큰 해시로 RefreshToken 조회 (token_hash_unique 인덱스)
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     /**
      * 사용자 ID로 RefreshToken 조회
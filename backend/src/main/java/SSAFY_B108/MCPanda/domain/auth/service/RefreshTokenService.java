@@ -1,9 +1,10 @@
 package SSAFY_B108.MCPanda.domain.auth.service;
 
-import SSAFY_B108.MCPanda.domain.auth.entity.RefreshToken;
-import SSAFY_B108.MCPanda.domain.auth.repository.RefreshTokenRepository;
+import SSAFY_B108.MCPanda.domain.auth.store.RefreshTokenStore;
 import SSAFY_B108.MCPanda.domain.member.entity.Member;
-import SSAFY_B108.MCPanda.global.jwt.JwtTokenProvider;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
+import SSAFY_B108.MCPanda.global.util.HashUtils;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -24,8 +25,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Value("${jwt.access-token-validity-in-seconds}")
     private long accessTokenValidityInSeconds;
@@ -33,109 +33,69 @@ public class RefreshTokenService {
     @Value("${jwt.refresh-token-validity-in-seconds}")
     private long refreshTokenValidityInSeconds;
 
+    // 교체 직후 같은 토큰으로 들어온 요청을 병렬 재발급으로 간주하는 유예 시간
+    @Value("${refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
+
 
     /**
-     * RefreshToken을 MongoDB에 저장
+     * RefreshToken 저장
+     * 토큰 원문 대신 SHA-256 해시를 저장하며, 회원의 기존 토큰은 교체됩니다.
      * @param memberId (MongoDB ObjectId 문자열)
      * @param token (RefreshToken 값)
      */
     public void saveRefreshToken(String memberId, String token) {
         // refreshToken 유효기간: 14일
         Instant expiryDate = Instant.now().plusSeconds(refreshTokenValidityInSeconds);
-
-        // 기존 토큰 찾기
-        Optional<RefreshToken> existingToken = refreshTokenRepository.findByMemberId(memberId);
-
-        if(existingToken.isPresent()) {
-            // 기존 토큰 업데이트
-            RefreshToken tokenEntity = existingToken.get();
-            tokenEntity.updateToken(token);
-            tokenEntity.updateExpiryDate(expiryDate);
-            refreshTokenRepository.save(tokenEntity);
-            log.info("기존 RefreshToken 업데이트: {}", memberId);
-        } else {
-            // 새 토큰 생성
-            RefreshToken newRefreshToken = RefreshToken.builder()
-                    .memberId(memberId)
-                    .token(token)
-                    .expiryDate(expiryDate)
-                    .build();
-            refreshTokenRepository.save(newRefreshToken);
-            log.info("새 RefreshToken 저장: {}", memberId);
-        }
+        refreshTokenStore.save(memberId, HashUtils.sha256Hex(token), expiryDate);
+        log.info("RefreshToken 저장: {}", memberId);
     }
 
     /**
-     *  RefreshToken 검증
+     * RefreshToken 교체 (rotation)
+     * 기존 토큰 해시가 일치하고 만료되지 않은 경우에만 새 토큰 해시로 원자적으로 교체하므로,
+     * 같은 토큰으로 동시에 들어온 재발급 요청 중 하나만 성공합니다.
+     * 실패한 경우 직전 토큰(previousTokenHash)인지 확인하여,
+     * - 교체 직후(유예 시간 이내)면 병렬 재발급으로 보고 409를 반환하고 (세션 유지)
+     * - 유예 시간이 지났으면 탈취된 토큰의 재사용으로 보고 회원의 RefreshToken을 삭제합니다.
+     * @param memberId 토큰의 회원 ID
+     * @param oldToken 클라이언트가 보낸 RefreshToken
+     * @param newToken 새로 발급한 RefreshToken
+     * @throws CustomException 병렬 재발급(409), 재사용 감지 또는 유효하지 않은 토큰(401)
      */
-    public Optional<String> validateRefreshToken(String token) {
-        // 1. JWT 토큰 자체의 유효성 확인
-        if(!jwtTokenProvider.validateToken(token)) {
-            log.warn("유효하지 않은 리프레시 토큰 형식 또는 서명: {}", token);
-            return Optional.empty();
+    public void rotateRefreshToken(String memberId, String oldToken, String newToken) {
+        Instant now = Instant.now();
+        String oldTokenHash = HashUtils.sha256Hex(oldToken);
+
+        if (refreshTokenStore.rotate(memberId, oldTokenHash, HashUtils.sha256Hex(newToken),
+                now.plusSeconds(refreshTokenValidityInSeconds), now)) {
+            log.info("회원 ID: {}의 리프레시 토큰이 교체되었습니다.", memberId);
+            return;
         }
 
-        // 2. DB에서 토큰 조회
-        Optional<RefreshToken> refreshTokenOpt = refreshTokenRepository.findByToken(token);
+        // 교체 실패: 직전 토큰의 재사용인지 확인 (실패한 경우에만 추가 조회)
+        Optional<Instant> rotatedAt = refreshTokenStore.findRotatedAt(memberId, oldTokenHash);
 
-        if(refreshTokenOpt.isEmpty()) {
-            log.warn("DB에서 리프레시 토큰을 찾을 수 없음: {}", token);
-            return Optional.empty();
-        }
+        if (rotatedAt.isPresent()) {
+            if (rotatedAt.get().isAfter(now.minusSeconds(reuseGraceSeconds))) {
+                log.info("회원 ID: {}의 병렬 재발급 요청 (이미 교체됨)", memberId);
+                throw new CustomException(ApiStatusCode.CONFLICT, "이미 재발급된 리프레시 토큰입니다.");
+            }
 
-        RefreshToken refreshToken = refreshTokenOpt.get();
-
-        // 3. 토큰 만료 여부 확인
-        if(refreshToken.getExpiryDate().isBefore(Instant.now())) {
-            log.warn("리프레시 토큰이 만료됨: {}", token);
-            refreshTokenRepository.delete(refreshToken);
-            return Optional.empty();
+            // 이미 교체된 토큰이 다시 사용됨 -> 토큰 탈취로 보고 회원의 RefreshToken 폐기
+            refreshTokenStore.delete(memberId);
+            log.warn("리프레시 토큰 재사용 감지, 회원 ID: {}의 리프레시 토큰을 폐기했습니다.", memberId);
         }
 
-        // 4. 토큰에서 회원 ID 추출 및 일치 여부 확인 (토큰 탈취 방지)
-        String getTokenByMemberId = jwtTokenProvider.getMemberIdFromToken(token);
-        if(!refreshToken.getMemberId().equals(getTokenByMemberId)){
-            log.warn("리프레시 토큰 회원 ID 불일치. DB 토큰 회원 ID: {}, 요청 토큰 회원 ID: {}",
-                    refreshToken.getMemberId(), getTokenByMemberId);
-            return Optional.empty();
-        }
-        return Optional.of(refreshToken.getMemberId());
+        throw new CustomException(ApiStatusCode.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
     }
 
-    /**
-     * 리프레시 토큰 업데이트
-     * @param memberId
-     * @param newRefreshToken
-     */
-    public void updateRefreshToken(String memberId, String newRefreshToken) {
-        Instant expiryDate = Instant.now().plusSeconds(refreshTokenValidityInSeconds);
-
-        Optional<RefreshToken> tokenOpt = refreshTokenRepository.findByMemberId(memberId);
-
-        RefreshToken refreshToken;
-        if(tokenOpt.isPresent()) {
-            // 기존 토큰 업데이트
-            refreshToken = tokenOpt.get();
-            refreshToken.updateToken(newRefreshToken);
-            refreshToken.updateExpiryDate(expiryDate);
-        } else {
-            // 새 토큰 생성
-            refreshToken = RefreshToken.builder()
-                    .memberId(memberId)
-                    .token(newRefreshToken)
-                    .expiryDate(expiryDate)
-                    .build();
-        }
-
-        refreshTokenRepository.save(refreshToken);
-        log.info("회원 ID: {}의 리프레시 토큰이 업데이트되었습니다.", memberId);
-    }
     /**
      * RefreshToken 삭제 (로그아웃 시 사용)
      * @param memberId
      */
     public void deleteRefreshToken(String memberId){
-        refreshTokenRepository.deleteByMemberId(memberId);
+        refreshTokenStore.delete(memberId);
         log.info("RefreshToken 삭제 완료: {}",memberId);
     }
 
@@ -1,25 +1,21 @@
 package SSAFY_B108.MCPanda.domain.auth.service;
 
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
 import SSAFY_B108.MCPanda.domain.auth.dto.TokenDto;
-import SSAFY_B108.MCPanda.domain.auth.entity.RefreshToken;
-import SSAFY_B108.MCPanda.domain.auth.repository.RefreshTokenRepository;
 import SSAFY_B108.MCPanda.domain.member.entity.Member;
-import SSAFY_B108.MCPanda.domain.member.repository.MemberRepository;
+import SSAFY_B108.MCPanda.domain.member.service.MemberCache;
+import SSAFY_B108.MCPanda.global.exception.CustomException;
 import SSAFY_B108.MCPanda.global.jwt.JwtTokenProvider;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.bson.types.ObjectId; // ObjectId 임포트 추가
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.Collections;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -28,51 +24,52 @@ public class TokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     /**
      * 토큰 재발급 처리 메서드
+     * 리프레시 토큰의 서명과 클레임으로 새 토큰을 만든 뒤, DB에서는 토큰 교체(findAndModify) 한 번만 수행합니다.
      * @param refreshToken 기존 리프레시 토큰 값
      * @return 새로 발급된 액세스 토큰과 리프레시 토큰
+     * @throws CustomException 유효하지 않거나 재사용된 토큰(401), 병렬 재발급(409)
      */
-    @Transactional
     public TokenDto reissueTokens(String refreshToken) {
-        // 1. RefreshTokenService를 통해 리프레시 토큰 유효성 검사
-        Optional<String> memberIdOpt = refreshTokenService.validateRefreshToken(refreshToken);
+        // 1. 리프레시 토큰 서명/만료 검증
+        Claims claims = jwtTokenProvider.parseClaims(refreshToken)
+                .filter(jwtTokenProvider::isRefreshToken)
+                .orElseThrow(() -> new CustomException(ApiStatusCode.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."));
 
-        if(memberIdOpt.isEmpty()) {
-            log.warn("유효하지 않은 리프레시 토큰: {}", refreshToken);
-            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
-        }
+        // 2. 인증 객체 생성 (권한/닉네임 클레임이 있으면 회원 조회 없음)
+        Authentication authentication = toAuthentication(claims);
+        String memberId = ((MemberPrincipal) authentication.getPrincipal()).getMemberId();
 
-        String memberId = memberIdOpt.get();
+        // 3. 새 토큰 생성
+        String newAccessToken = jwtTokenProvider.createAccessToken(authentication);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(authentication);
 
-        // 2. 회원 ID로 회원 조회 (ObjectId 변환 필요)
-        Member member = memberRepository.findById(new ObjectId(memberId))
-                .orElseThrow(() -> new RuntimeException("토큰에 해당하는 사용자를 찾을 수 없습니다."));
+        // 4. DB의 리프레시 토큰 교체 (기존 토큰이 현재 토큰일 때만 성공)
+        refreshTokenService.rotateRefreshToken(memberId, refreshToken, newRefreshToken);
 
-        // 3. 인증 객체 생성 (Principal로 Member 객체 사용)
+        log.info("회원 ID: {}의 토큰이 재발급되었습니다.", memberId);
+        return new TokenDto(newAccessToken, newRefreshToken, true);
+    }
+
+    private Authentication toAuthentication(Claims claims) {
+        if (claims.get("auth") != null && claims.get("nickname") != null) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims, "");
+            if (authentication.getPrincipal() instanceof MemberPrincipal) {
+                return authentication;
+            }
+        }
+
+        // 권한/닉네임 클레임이 없는 기존 리프레시 토큰은 회원을 조회하여 생성
+        Member member = memberCache.findById(claims.getSubject())
+                .orElseThrow(() -> new CustomException(ApiStatusCode.UNAUTHORIZED, "토큰에 해당하는 사용자를 찾을 수 없습니다."));
         String role = "ROLE_" + member.getRole().toUpperCase();
-        User principal = new User(
-                member.getEmail(),
+        return new UsernamePasswordAuthenticationToken(
+                MemberPrincipal.from(member),
                 "",
                 Collections.singletonList(new SimpleGrantedAuthority(role))
         );
-
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                principal,
-                "",
-                principal.getAuthorities()
-        );
-
-        // 4. 새 토큰 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(authentication);
-        String newRefreshToken = jwtTokenProvider.createRefreshToken(authentication);
-
-        // 5. DB의 리프레시 토큰 업데이트
-        refreshTokenService.updateRefreshToken(memberId, newRefreshToken);
-
-        log.info("회원: {}의 토큰이 재발급되었습니다.", member.getEmail());
-        return new TokenDto(newAccessToken, newRefreshToken, true);
     }
 }
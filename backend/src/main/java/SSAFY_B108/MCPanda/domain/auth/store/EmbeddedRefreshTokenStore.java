@@ -0,0 +1,464 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 내장(off-heap) RefreshToken 저장소 - 단일 노드 배포 및 테스트용 (refresh-token.store=embedded)
+ * - 저장: 고정 크기 슬롯을 담은 direct ByteBuffer(slab)를 회원 ID(ObjectId)에서 만든 long 키로 오픈 어드레싱합니다.
+ * - 만료: 만료 시각별 버킷을 가진 expiry wheel이 주기적으로(tick) 만료된 슬롯을 제거하며, 조회 시에도 만료 여부를 확인합니다.
+ * - 영속화: 주기적으로, 그리고 종료 시 로컬 파일에 스냅샷을 기록하고 시작 시 복원합니다.
+ * 용량은 고정(refresh-token.embedded.capacity)이며, 모든 연산은 하나의 락으로 직렬화합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "embedded")
+public class EmbeddedRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int MEMBER_ID_LENGTH = 12; // ObjectId
+    private static final int HASH_LENGTH = 32;      // SHA-256
+
+    // 슬롯 레이아웃 (바이트 오프셋)
+    private static final int EXPIRY_OFFSET = 0;          // long, epoch millis
+    private static final int ROTATED_AT_OFFSET = 8;      // long, epoch millis (0이면 교체 이력 없음)
+    private static final int STATE_OFFSET = 16;          // byte
+    private static final int MEMBER_ID_OFFSET = 17;
+    private static final int TOKEN_HASH_OFFSET = MEMBER_ID_OFFSET + MEMBER_ID_LENGTH;
+    private static final int PREVIOUS_HASH_OFFSET = TOKEN_HASH_OFFSET + HASH_LENGTH;
+    private static final int SLOT_SIZE = 96;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte REMOVED = 2;
+
+    // 스냅샷 파일 형식: magic, 레코드 수, 레코드(회원 ID, 토큰 해시, 직전 해시, 만료, 교체 시각)
+    private static final int SNAPSHOT_MAGIC = 0x52544B31; // "RTK1"
+    private static final int RECORD_SIZE = MEMBER_ID_LENGTH + HASH_LENGTH * 2 + Long.BYTES * 2;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final int capacity;
+    private final int mask;
+    private final long tickMillis;
+    private final IntList[] wheel;
+    private final Path snapshotPath;
+    private final Clock clock;
+
+    private ByteBuffer slab;
+    private int size;
+    private int removed;
+    private long lastTick;
+    private boolean dirty;
+
+    @Autowired
+    public EmbeddedRefreshTokenStore(@Value("${refresh-token.embedded.capacity:65536}") int capacity,
+                                     @Value("${refresh-token.embedded.tick-ms:60000}") long tickMillis,
+                                     @Value("${refresh-token.embedded.wheel-size:1024}") int wheelSize,
+                                     @Value("${refresh-token.embedded.snapshot-path:data/refresh-tokens.snapshot}") String snapshotPath) {
+        this(capacity, tickMillis, wheelSize, snapshotPath, Clock.systemUTC());
+    }
+
+    // 현재 시각을 직접 지정하는 생성자 (테스트에서 시간을 진행시키기 위해 사용)
+    EmbeddedRefreshTokenStore(int capacity, long tickMillis, int wheelSize, String snapshotPath, Clock clock) {
+        this.clock = clock;
+        this.capacity = Integer.highestOneBit(Math.max(16, capacity - 1) << 1); // 2의 거듭제곱으로 올림
+        this.mask = this.capacity - 1;
+        this.tickMillis = tickMillis;
+        this.wheel = new IntList[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new IntList();
+        }
+        this.snapshotPath = snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.slab = ByteBuffer.allocateDirect(this.capacity * SLOT_SIZE);
+        this.lastTick = clock.millis() / tickMillis;
+    }
+
+    @Override
+    public synchronized void save(String memberId, String tokenHash, Instant expiryDate) {
+        byte[] key = memberKey(memberId);
+        int slot = findSlot(key);
+        if (slot < 0) {
+            slot = insertSlot(key);
+        }
+
+        writeSlot(slot, parseHash(tokenHash), new byte[HASH_LENGTH], expiryDate.toEpochMilli(), 0L);
+        dirty = true;
+    }
+
+    @Override
+    public synchronized boolean rotate(String memberId, String oldTokenHash, String newTokenHash, Instant newExpiryDate, Instant now) {
+        int slot = findSlot(memberKey(memberId));
+        if (slot < 0 || isExpired(slot, now.toEpochMilli())) {
+            return false;
+        }
+
+        byte[] oldHash = parseHash(oldTokenHash);
+        if (!bytesEqual(slot, TOKEN_HASH_OFFSET, oldHash)) {
+            return false;
+        }
+
+        writeSlot(slot, parseHash(newTokenHash), oldHash, newExpiryDate.toEpochMilli(), now.toEpochMilli());
+        dirty = true;
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<Instant> findRotatedAt(String memberId, String previousTokenHash) {
+        int slot = findSlot(memberKey(memberId));
+        if (slot < 0 || isExpired(slot, clock.millis())) {
+            return Optional.empty();
+        }
+
+        long rotatedAt = slab.getLong(offset(slot) + ROTATED_AT_OFFSET);
+        if (rotatedAt == 0L || !bytesEqual(slot, PREVIOUS_HASH_OFFSET, parseHash(previousTokenHash))) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochMilli(rotatedAt));
+    }
+
+    @Override
+    public synchronized void delete(String memberId) {
+        int slot = findSlot(memberKey(memberId));
+        if (slot >= 0) {
+            removeSlot(slot);
+            dirty = true;
+        }
+    }
+
+    /**
+     * expiry wheel을 현재 시각까지 진행하며 만료된 토큰을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.embedded.tick-ms:60000}")
+    public synchronized void expire() {
+        long now = clock.millis();
+        long currentTick = now / tickMillis;
+
+        // 밀린 tick이 wheel 한 바퀴를 넘으면 모든 버킷을 한 번씩만 확인
+        long from = Math.max(lastTick, currentTick - wheel.length + 1);
+        for (long tick = from; tick <= currentTick; tick++) {
+            expireBucket((int) (tick % wheel.length), now);
+        }
+        lastTick = currentTick;
+    }
+
+    /**
+     * 변경 사항이 있으면 스냅샷 파일을 기록합니다.
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.embedded.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        ByteBuffer records;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            records = copyLiveRecords(clock.millis());
+            dirty = false;
+        }
+
+        // 락 밖에서 임시 파일에 쓰고 원자적으로 교체
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (records.hasRemaining()) {
+                    channel.write(records);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            synchronized (this) {
+                dirty = true; // 다음 주기에 재시도
+            }
+            log.error("RefreshToken 스냅샷 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+            if (buffer.remaining() < Integer.BYTES * 2 || buffer.getInt() != SNAPSHOT_MAGIC) {
+                log.warn("RefreshToken 스냅샷 형식이 올바르지 않아 무시합니다: {}", snapshotPath);
+                return;
+            }
+
+            int count = buffer.getInt();
+            long now = clock.millis();
+            int restored = 0;
+
+            synchronized (this) {
+                for (int i = 0; i < count && buffer.remaining() >= RECORD_SIZE; i++) {
+                    byte[] memberKey = new byte[MEMBER_ID_LENGTH];
+                    byte[] tokenHash = new byte[HASH_LENGTH];
+                    byte[] previousHash = new byte[HASH_LENGTH];
+                    buffer.get(memberKey).get(tokenHash).get(previousHash);
+                    long expiry = buffer.getLong();
+                    long rotatedAt = buffer.getLong();
+
+                    if (expiry > now) {
+                        int slot = findSlot(memberKey);
+                        writeSlot(slot >= 0 ? slot : insertSlot(memberKey), tokenHash, previousHash, expiry, rotatedAt);
+                        restored++;
+                    }
+                }
+            }
+            log.info("RefreshToken 스냅샷 복원: {}건", restored);
+        } catch (IOException | RuntimeException e) {
+            log.error("RefreshToken 스냅샷 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        snapshot();
+    }
+
+    // 저장된 토큰 수 (만료 후 아직 정리되지 않은 토큰 포함, 테스트용)
+    synchronized int size() {
+        return size;
+    }
+
+    // ===== slab 연산 (호출자가 락을 보유) =====
+
+    private int offset(int slot) {
+        return slot * SLOT_SIZE;
+    }
+
+    private byte state(int slot) {
+        return slab.get(offset(slot) + STATE_OFFSET);
+    }
+
+    private boolean isExpired(int slot, long nowMillis) {
+        return slab.getLong(offset(slot) + EXPIRY_OFFSET) <= nowMillis;
+    }
+
+    // 회원 키가 있는 슬롯 (없으면 -1)
+    private int findSlot(byte[] memberKey) {
+        int slot = home(memberKey);
+        for (int probe = 0; probe < capacity; probe++) {
+            byte state = state(slot);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == USED && bytesEqual(slot, MEMBER_ID_OFFSET, memberKey)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    // 새 회원 키를 위한 슬롯 할당 (findSlot으로 없음을 확인한 뒤 호출)
+    private int insertSlot(byte[] memberKey) {
+        if (size + removed >= capacity - (capacity >> 2)) {
+            expireAll(clock.millis());
+            if (removed > capacity >> 3) {
+                compact();
+            }
+            if (size >= capacity - (capacity >> 2)) {
+                throw new IllegalStateException("내장 RefreshToken 저장소 용량(" + capacity + ")을 초과했습니다.");
+            }
+        }
+
+        int slot = home(memberKey);
+        while (state(slot) == USED) {
+            slot = (slot + 1) & mask;
+        }
+        if (state(slot) == REMOVED) {
+            removed--;
+        }
+
+        slab.put(offset(slot) + STATE_OFFSET, USED);
+        slab.put(offset(slot) + MEMBER_ID_OFFSET, memberKey);
+        slab.putLong(offset(slot) + EXPIRY_OFFSET, 0L);
+        size++;
+        return slot;
+    }
+
+    private void writeSlot(int slot, byte[] tokenHash, byte[] previousHash, long expiry, long rotatedAt) {
+        int base = offset(slot);
+        long previousExpiry = slab.getLong(base + EXPIRY_OFFSET);
+
+        slab.put(base + TOKEN_HASH_OFFSET, tokenHash);
+        slab.put(base + PREVIOUS_HASH_OFFSET, previousHash);
+        slab.putLong(base + EXPIRY_OFFSET, expiry);
+        slab.putLong(base + ROTATED_AT_OFFSET, rotatedAt);
+
+        // 만료 버킷이 바뀐 경우에만 wheel에 등록 (이전 버킷의 항목은 해당 tick에 정리)
+        if (previousExpiry == 0L || bucketOf(previousExpiry) != bucketOf(expiry)) {
+            wheel[bucketOf(expiry)].add(slot);
+        }
+    }
+
+    private void removeSlot(int slot) {
+        slab.put(offset(slot) + STATE_OFFSET, REMOVED);
+        slab.putLong(offset(slot) + EXPIRY_OFFSET, 0L);
+        size--;
+        removed++;
+    }
+
+    private void expireBucket(int bucket, long now) {
+        IntList slots = wheel[bucket];
+        int kept = 0;
+        for (int i = 0; i < slots.size; i++) {
+            int slot = slots.values[i];
+            if (state(slot) != USED) {
+                continue;
+            }
+            long expiry = slab.getLong(offset(slot) + EXPIRY_OFFSET);
+            if (expiry <= now) {
+                removeSlot(slot);
+                dirty = true;
+            } else if (bucketOf(expiry) == bucket) {
+                // 이후 바퀴에 만료되는 항목은 유지
+                slots.values[kept++] = slot;
+            }
+        }
+        slots.size = kept;
+    }
+
+    private void expireAll(long now) {
+        for (int bucket = 0; bucket < wheel.length; bucket++) {
+            expireBucket(bucket, now);
+        }
+    }
+
+    // 삭제 표시된 슬롯을 정리하기 위해 사용 중인 슬롯만 새 slab에 다시 배치
+    private void compact() {
+        ByteBuffer old = slab;
+        slab = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+        size = 0;
+        removed = 0;
+        for (IntList bucket : wheel) {
+            bucket.size = 0;
+        }
+
+        byte[] memberKey = new byte[MEMBER_ID_LENGTH];
+        byte[] tokenHash = new byte[HASH_LENGTH];
+        byte[] previousHash = new byte[HASH_LENGTH];
+        for (int slot = 0; slot < capacity; slot++) {
+            int base = offset(slot);
+            if (old.get(base + STATE_OFFSET) != USED) {
+                continue;
+            }
+            old.get(base + MEMBER_ID_OFFSET, memberKey);
+            old.get(base + TOKEN_HASH_OFFSET, tokenHash);
+            old.get(base + PREVIOUS_HASH_OFFSET, previousHash);
+
+            int target = home(memberKey);
+            while (state(target) != EMPTY) {
+                target = (target + 1) & mask;
+            }
+            slab.put(offset(target) + STATE_OFFSET, USED);
+            slab.put(offset(target) + MEMBER_ID_OFFSET, memberKey);
+            size++;
+            writeSlot(target, tokenHash, previousHash,
+                    old.getLong(base + EXPIRY_OFFSET), old.getLong(base + ROTATED_AT_OFFSET));
+        }
+    }
+
+    private ByteBuffer copyLiveRecords(long now) {
+        ByteBuffer records = ByteBuffer.allocate(Integer.BYTES * 2 + size * RECORD_SIZE);
+        records.putInt(SNAPSHOT_MAGIC).putInt(0);
+
+        byte[] bytes = new byte[HASH_LENGTH];
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int base = offset(slot);
+            if (slab.get(base + STATE_OFFSET) != USED || slab.getLong(base + EXPIRY_OFFSET) <= now) {
+                continue;
+            }
+            records.put(slab.slice(base + MEMBER_ID_OFFSET, MEMBER_ID_LENGTH));
+            slab.get(base + TOKEN_HASH_OFFSET, bytes);
+            records.put(bytes);
+            slab.get(base + PREVIOUS_HASH_OFFSET, bytes);
+            records.put(bytes);
+            records.putLong(slab.getLong(base + EXPIRY_OFFSET));
+            records.putLong(slab.getLong(base + ROTATED_AT_OFFSET));
+            count++;
+        }
+
+        records.putInt(Integer.BYTES, count);
+        return records.flip();
+    }
+
+    private boolean bytesEqual(int slot, int fieldOffset, byte[] value) {
+        int base = offset(slot) + fieldOffset;
+        for (int i = 0; i < value.length; i++) {
+            if (slab.get(base + i) != value[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bucketOf(long expiryMillis) {
+        return (int) ((expiryMillis / tickMillis) % wheel.length);
+    }
+
+    // ObjectId 12바이트에서 만든 long 키를 섞어 시작 슬롯 결정
+    private int home(byte[] memberKey) {
+        ByteBuffer key = ByteBuffer.wrap(memberKey);
+        long hash = key.getLong(0) * 0x9E3779B97F4A7C15L ^ key.getInt(8);
+        hash ^= hash >>> 31;
+        return (int) hash & mask;
+    }
+
+    private byte[] memberKey(String memberId) {
+        if (memberId == null || !ObjectId.isValid(memberId)) {
+            throw new IllegalArgumentException("유효하지 않은 회원 ID입니다: " + memberId);
+        }
+        return new ObjectId(memberId).toByteArray();
+    }
+
+    private byte[] parseHash(String hexHash) {
+        byte[] hash = HEX.parseHex(hexHash);
+        return hash.length == HASH_LENGTH ? hash : Arrays.copyOf(hash, HASH_LENGTH);
+    }
+
+    // 버킷용 int 가변 배열 (박싱 없이 슬롯 번호 저장)
+    private static class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import SSAFY_B108.MCPanda.domain.auth.entity.RefreshToken;
+import SSAFY_B108.MCPanda.domain.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * MongoDB refresh_tokens 컬렉션 기반 RefreshToken 저장소 (기본값)
+ * 저장은 memberId 기준 upsert, 교체는 findAndModify 한 번으로 처리하며 만료된 토큰은 TTL 인덱스로 삭제됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "mongo", matchIfMissing = true)
+public class MongoRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void save(String memberId, String tokenHash, Instant expiryDate) {
+        Instant now = Instant.now();
+        Update update = new Update()
+                .set("tokenHash", tokenHash)
+                .set("expiryDate", expiryDate)
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now)
+                // 새 세션이므로 이전 세션의 교체 이력 제거 (이전 토큰이 재사용 감지에 걸리지 않도록)
+                .unset("previousTokenHash")
+                .unset("rotatedAt");
+        mongoTemplate.upsert(Query.query(Criteria.where("memberId").is(memberId)), update, RefreshToken.class);
+    }
+
+    @Override
+    public boolean rotate(String memberId, String oldTokenHash, String newTokenHash, Instant newExpiryDate, Instant now) {
+        Query query = Query.query(Criteria.where("memberId").is(memberId)
+                .and("tokenHash").is(oldTokenHash)
+                .and("expiryDate").gt(now));
+        Update update = new Update()
+                .set("tokenHash", newTokenHash)
+                .set("previousTokenHash", oldTokenHash)
+                .set("rotatedAt", now)
+                .set("expiryDate", newExpiryDate)
+                .set("updatedAt", now);
+
+        return mongoTemplate.findAndModify(query, update, RefreshToken.class) != null;
+    }
+
+    @Override
+    public Optional<Instant> findRotatedAt(String memberId, String previousTokenHash) {
+        Query query = Query.query(Criteria.where("memberId").is(memberId).and("previousTokenHash").is(previousTokenHash));
+        query.fields().include("rotatedAt");
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, RefreshToken.class))
+                .map(RefreshToken::getRotatedAt);
+    }
+
+    @Override
+    public void delete(String memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+}
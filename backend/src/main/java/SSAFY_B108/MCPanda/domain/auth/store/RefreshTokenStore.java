@@ -0,0 +1,34 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * RefreshToken 저장소 SPI
+ * 회원당 하나의 RefreshToken 해시를 저장하며, 교체(rotation)는 원자적으로 처리해야 합니다.
+ * refresh-token.store 설정으로 구현체를 선택합니다. (mongo: 기본값, embedded: 단일 노드/테스트용)
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 회원의 RefreshToken 해시를 저장합니다. (기존 토큰은 교체)
+     */
+    void save(String memberId, String tokenHash, Instant expiryDate);
+
+    /**
+     * 저장된 토큰 해시가 oldTokenHash이고 만료되지 않았을 때만 newTokenHash로 교체합니다.
+     * 교체 시 oldTokenHash를 직전 토큰 해시로, now를 교체 시각으로 기록합니다.
+     * @return 교체에 성공하면 true
+     */
+    boolean rotate(String memberId, String oldTokenHash, String newTokenHash, Instant newExpiryDate, Instant now);
+
+    /**
+     * 직전 토큰 해시가 previousTokenHash인 경우 마지막 교체 시각을 반환합니다. (재사용 감지용)
+     */
+    Optional<Instant> findRotatedAt(String memberId, String previousTokenHash);
+
+    /**
+     * 회원의 RefreshToken을 삭제합니다.
+     */
+    void delete(String memberId);
+}
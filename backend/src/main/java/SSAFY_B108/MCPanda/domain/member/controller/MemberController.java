@@ -1,7 +1,7 @@
 package SSAFY_B108.MCPanda.domain.member.controller;
 
 import SSAFY_B108.MCPanda.domain.member.dto.MemberResponseDto;
-import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
 import SSAFY_B108.MCPanda.domain.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,12 +31,12 @@ public class MemberController {
             return ResponseEntity.status(401).build();
         }
 
-        Object principal = authentication.getPrincipal();
-        log.info("Principal 타입: {}", principal.getClass().getName());
+        if (!(authentication.getPrincipal() instanceof MemberPrincipal memberPrincipal)) {
+            return ResponseEntity.status(401).build();
+        }
 
-        Member memberPrincipal = (Member) principal;
         String email = memberPrincipal.getEmail();
-        log.info("Principal에서 Member 이메일 추출: {}", email);
+        log.debug("Principal에서 Member 이메일 추출: {}", email);
 
         MemberResponseDto memberDto = memberService.getMemberByEmail(email);
         return ResponseEntity.ok(memberDto);
@@ -0,0 +1,94 @@
+package SSAFY_B108.MCPanda.domain.member.migration;
+
+import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.member.service.NicknameAllocator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * members 컬렉션의 중복 닉네임을 정리하는 마이그레이션 작업
+ * 이전 버전의 랜덤 4자리 닉네임(기본 이름#1000~#9999)은 중복될 수 있었으므로,
+ * 같은 닉네임을 가진 회원 중 가장 먼저 가입한 회원만 닉네임을 유지하고 나머지는 NicknameAllocator로 새 닉네임을 할당합니다.
+ * 유니크 인덱스(nickname_unique)가 생성되기 전에 끝나야 하므로 MongoIndexConfig보다 먼저 실행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class NicknameMigrationRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final NicknameAllocator nicknameAllocator;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String collection = mongoTemplate.getCollectionName(Member.class);
+
+        long renamed = renameDuplicateNicknames(collection);
+        if (renamed > 0) {
+            log.info("닉네임 마이그레이션 완료: 중복 닉네임 변경 {}건", renamed);
+        }
+    }
+
+    // 같은 닉네임을 가진 회원 중 가장 먼저 가입한 회원(_id 순)을 제외하고 새 닉네임 할당
+    private long renameDuplicateNicknames(String collection) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("nickname").ne(null)),
+                Aggregation.group("nickname").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long renamed = 0;
+        BulkOperations bulkOps = null;
+        int pending = 0;
+
+        for (Document duplicate : mongoTemplate.aggregate(aggregation, collection, Document.class)) {
+            Object nickname = duplicate.get("_id");
+            Query query = Query.query(Criteria.where("nickname").is(nickname))
+                    .with(Sort.by(Sort.Direction.ASC, "_id"));
+            query.fields().include("_id").include("email");
+
+            List<Document> members = mongoTemplate.find(query, Document.class, collection);
+            for (int i = 1; i < members.size(); i++) {
+                Document member = members.get(i);
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+                }
+                // 조회 이후 회원이 직접 닉네임을 바꾼 경우에는 덮어쓰지 않도록 조건부 갱신
+                bulkOps.updateOne(
+                        Query.query(Criteria.where("_id").is(member.get("_id")).and("nickname").is(nickname)),
+                        new Update().set("nickname", nicknameAllocator.allocate(member.getString("email"))));
+                pending++;
+
+                if (pending >= BATCH_SIZE) {
+                    renamed += bulkOps.execute().getModifiedCount();
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+        }
+
+        if (bulkOps != null) {
+            renamed += bulkOps.execute().getModifiedCount();
+        }
+        return renamed;
+    }
+}
@@ -20,12 +20,6 @@ public interface MemberRepository extends MongoRepository<Member, ObjectId> {
     @Query("{ 'email': ?0, 'deleted_at': null }")
     Optional<Member> findByEmail(String email);
 
-    /**
-     * 닉네임 중복 확인
-     */
-    @Query(value = "{ 'nickname': ?0, 'deleted_at': null }", count = true)
-    long countByNickname(String nickname);
-
     /**
      * 특정 게시글을 좋아요한 회원 목록 조회
      */
@@ -0,0 +1,86 @@
+package SSAFY_B108.MCPanda.domain.member.service;
+
+import SSAFY_B108.MCPanda.domain.member.entity.Member;
+import SSAFY_B108.MCPanda.domain.member.repository.MemberRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 엔티티 단기 캐시
+ * 전체 Member 엔티티가 꼭 필요한 경우(닉네임 클레임이 없는 기존 토큰 인증 등)에만 사용하며,
+ * 같은 회원을 짧은 시간 안에 반복 조회할 때 DB 조회를 줄입니다.
+ */
+@Component
+public class MemberCache {
+
+    private final MemberRepository memberRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    // 회원 ID -> 캐시된 회원 (조회 결과가 없으면 캐시하지 않음)
+    private final Map<String, CachedMember> cache = new ConcurrentHashMap<>();
+
+    public MemberCache(MemberRepository memberRepository,
+                       @Value("${member.cache.ttl-ms:60000}") long ttlMillis,
+                       @Value("${member.cache.max-entries:10000}") int maxEntries) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 회원 ID로 회원을 조회합니다. (캐시 우선)
+     */
+    public Optional<Member> findById(String memberId) {
+        if (memberId == null || !ObjectId.isValid(memberId)) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedMember cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.member());
+        }
+
+        Optional<Member> member = memberRepository.findById(new ObjectId(memberId));
+        member.ifPresent(found -> put(memberId, found, now));
+        return member;
+    }
+
+    /**
+     * 이메일로 회원을 조회합니다. (subject에 이메일이 들어간 기존 토큰용, 조회 결과는 ID 기준으로 캐시)
+     */
+    public Optional<Member> findByEmail(String email) {
+        if (email == null || email.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<Member> member = memberRepository.findByEmail(email);
+        member.ifPresent(found -> put(found.getId().toString(), found, System.currentTimeMillis()));
+        return member;
+    }
+
+    /**
+     * 회원 정보가 변경된 경우 캐시에서 제거합니다.
+     */
+    public void evict(String memberId) {
+        cache.remove(memberId);
+    }
+
+    private void put(String memberId, Member member, long now) {
+        if (cache.size() >= maxEntries) {
+            cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(memberId, new CachedMember(member, now + ttlMillis));
+    }
+
+    private record CachedMember(Member member, long expiresAt) {
+    }
+}
@@ -24,6 +24,8 @@ import java.util.UUID;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
+    private final NicknameAllocator nicknameAllocator;
 
     /**
      * OAuth2 사용자 정보로 회원 저장 또는 업데이트
@@ -68,7 +70,9 @@ public class MemberService {
      */
     private Member updateExistingMember(Member member, OAuth2UserInfo userInfo) {
         member.update(userInfo.getName(), userInfo.getImageUrl());
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        memberCache.evict(saved.getId().toString());
+        return saved;
     }
     /**
      * 새 회원 생성
@@ -77,8 +81,8 @@ public class MemberService {
      * @return
      */
     private Member createNewMember(OAuth2UserInfo userInfo, String registrationId) {
-        // 닉네임 생성
-        String nickname = generateNickname(userInfo.getEmail());
+        // 닉네임 할당 (기본 이름별 카운터로 한 번에 예약)
+        String nickname = nicknameAllocator.allocate(userInfo.getEmail());
         
         Member newMember = Member.builder()
                 .name(userInfo.getName())
@@ -96,45 +100,6 @@ public class MemberService {
         return memberRepository.save(newMember);
     }
 
-    /**
-     * 고유한 닉네임 생성 (이메일#랜덤4자리)
-     * @param email
-     * @return
-     */
-    private String generateNickname(String email) {
-        String username;
-        try {
-            username = email.split("@")[0];
-        } catch (Exception e) {
-            username = email;
-        }
-
-        StringBuilder nickname;
-        boolean isUnique = false;
-        int attempts = 0;
-
-        do {
-            // 랜덤 4자리 숫자 생성
-            int randomNum = (int) (Math.random() * 9000) + 1000;
-            nickname = new StringBuilder(username).append("#").append(randomNum);
-
-            // 닉네임 중복 확인
-            long count = memberRepository.countByNickname(nickname.toString());
-            isUnique = (count == 0);
-
-            attempts++;
-        } while (!isUnique && attempts < 5); // 최대 5번 시도
-
-        if (!isUnique) {
-            // 5번 시도 후에도 중복이면 타임스탬프 추가
-            long timestamp = System.currentTimeMillis() % 10000;
-            nickname = new StringBuilder(username).append("#").append(timestamp);
-        }
-
-        return nickname.toString();
-    }
-
-
     public MemberResponseDto getMemberByEmail(String email) {
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> {
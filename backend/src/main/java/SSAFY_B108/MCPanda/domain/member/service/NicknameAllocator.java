@@ -0,0 +1,65 @@
+package SSAFY_B108.MCPanda.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닉네임 할당기 (기본 이름#번호)
+ * 기본 이름별 카운터 도큐먼트(nickname_counters)를 findAndModify upsert + $inc로 증가시켜 번호를 원자적으로 예약하므로,
+ * 중복 확인 쿼리 없이 한 번의 왕복으로 겹치지 않는 닉네임을 만듭니다.
+ * 번호는 10000부터 시작하여 기존 랜덤 4자리(#1000~#9999) 닉네임과 겹치지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameAllocator {
+
+    private static final String COUNTER_COLLECTION = "nickname_counters";
+    private static final long SUFFIX_OFFSET = 10000;
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 이메일의 아이디 부분을 기본 이름으로 닉네임을 할당합니다.
+     * @param email 회원 이메일
+     * @return 고유한 닉네임 (예: user#10001)
+     */
+    public String allocate(String email) {
+        String base = baseName(email);
+        return base + "#" + (SUFFIX_OFFSET + nextSequence(base));
+    }
+
+    private long nextSequence(String base) {
+        Query query = Query.query(Criteria.where("_id").is(base));
+        Update update = new Update().inc("seq", 1L);
+        FindAndModifyOptions options = FindAndModifyOptions.options().upsert(true).returnNew(true);
+
+        try {
+            return sequenceOf(mongoTemplate.findAndModify(query, update, options, Document.class, COUNTER_COLLECTION));
+        } catch (DuplicateKeyException e) {
+            // 같은 기본 이름의 카운터를 동시에 처음 만드는 경우 한쪽 upsert가 실패할 수 있으므로 한 번 더 시도
+            log.debug("닉네임 카운터 생성 충돌, 재시도: {}", base);
+            return sequenceOf(mongoTemplate.findAndModify(query, update, options, Document.class, COUNTER_COLLECTION));
+        }
+    }
+
+    private long sequenceOf(Document counter) {
+        return ((Number) counter.get("seq")).longValue();
+    }
+
+    private String baseName(String email) {
+        if (email == null || email.isEmpty()) {
+            return "user";
+        }
+        int at = email.indexOf('@');
+        return at > 0 ? email.substring(0, at) : email;
+    }
+}
@@ -0,0 +1,305 @@
+package SSAFY_B108.MCPanda.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * MongoDB 인덱스 선언 및 부트스트랩 설정
+ * Spring Boot 3은 엔티티의 @Indexed/@CompoundIndex를 자동 생성하지 않으므로, 조회에 필요한 인덱스를 여기서 선언하고 시작 시 생성합니다.
+ * 생성 후에는 선언과 실제 인덱스를 비교하여 누락/불일치(drift)를 보고하고,
+ * mongo.index.fail-fast=true 이면 필수 인덱스가 없을 때 애플리케이션 시작을 중단합니다.
+ * 실행 순서: 유니크 인덱스와 충돌하는 데이터를 정리하는 마이그레이션(HIGHEST_PRECEDENCE) 다음, 데이터 backfill(BACKFILL_ORDER) 이전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(MongoIndexConfig.ORDER)
+public class MongoIndexConfig implements ApplicationRunner {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    // 인덱스가 생성된 뒤 실행되는 backfill 작업의 순서 (조회가 새 인덱스를 사용할 수 있도록)
+    public static final int BACKFILL_ORDER = ORDER + 10;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${mongo.index.fail-fast:false}")
+    private boolean failFast;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        List<String> problems = new ArrayList<>();
+
+        declaredIndexes().forEach((collection, indexes) -> {
+            IndexOperations indexOps = mongoTemplate.indexOps(collection);
+            Map<String, IndexDefinition> retired = retiredIndexes().getOrDefault(collection, Map.of());
+
+            for (IndexDefinition index : indexes) {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (DataAccessException e) {
+                    IndexDefinition predecessor = retired.get(nameOf(index));
+                    if (predecessor != null && indexNames(indexOps).contains(nameOf(predecessor))) {
+                        // 같은 키의 기존 인덱스가 있어 생성할 수 없는 경우 기존 인덱스를 교체
+                        replaceIndex(collection, indexOps, predecessor, index);
+                    } else {
+                        // 중복 데이터로 인한 유니크 인덱스 생성 실패, 같은 키의 다른 이름 인덱스 존재 등
+                        log.error("인덱스 생성 실패 - {}.{}: {}", collection, nameOf(index), e.getMessage());
+                    }
+                }
+            }
+
+            dropRetiredIndexes(collection, indexOps, retired);
+            problems.addAll(checkDrift(collection, indexes, indexOps.getIndexInfo()));
+        });
+
+        if (problems.isEmpty()) {
+            log.info("MongoDB 인덱스 확인 완료 - 선언된 인덱스가 모두 존재합니다.");
+            return;
+        }
+
+        if (failFast) {
+            throw new IllegalStateException("필수 MongoDB 인덱스가 누락되었거나 선언과 다릅니다: " + problems);
+        }
+        log.warn("MongoDB 인덱스 불일치 {}건 (mongo.index.fail-fast=false 이므로 계속 진행): {}", problems.size(), problems);
+    }
+
+    /**
+     * 컬렉션별 필수 인덱스 선언
+     * 기존에 생성된 인덱스와 충돌하지 않도록 이미 운영 중인 인덱스는 기존 이름을 그대로 사용합니다.
+     */
+    private Map<String, List<IndexDefinition>> declaredIndexes() {
+        Map<String, List<IndexDefinition>> declared = new LinkedHashMap<>();
+
+        declared.put("articles", List.of(
+                // 추천순 / 최신순 정렬 (커서 페이지네이션 keyset 포함)
+                new Index()
+                        .on("recommendCount", Sort.Direction.DESC)
+                        .on("createdAt", Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .named("recommend_keyset_idx"),
+                new Index()
+                        .on("createdAt", Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .named("latest_keyset_idx"),
+                // 카테고리 필터 + 추천순 / 최신순 정렬
+                new Index()
+                        .on("mcpCategories", Sort.Direction.ASC)
+                        .on("recommendCount", Sort.Direction.DESC)
+                        .on("createdAt", Sort.Direction.DESC)
+                        .named("category_recommend_idx"),
+                new Index()
+                        .on("mcpCategories", Sort.Direction.ASC)
+                        .on("createdAt", Sort.Direction.DESC)
+                        .named("category_latest_idx"),
+                // 제목(가중치 2) + 내용 텍스트 검색 (한국어 형태소 분석이 없으므로 언어는 none)
+                new TextIndexDefinition.TextIndexDefinitionBuilder()
+                        .onField("title", 2F)
+                        .onField("content")
+                        .withDefaultLanguage("none")
+                        .named("article_text_idx")
+                        .build(),
+                // 특정 MCP가 태그된 게시글 조회
+                new Index()
+                        .on("mcpNames", Sort.Direction.ASC)
+                        .named("mcp_names_idx")
+        ));
+
+        declared.put("comments", List.of(
+                // 게시글별 댓글 조회 (작성순 정렬 및 커서 페이지네이션)
+                new Index()
+                        .on("articleId", Sort.Direction.ASC)
+                        .on("createdAt", Sort.Direction.ASC)
+                        .on("_id", Sort.Direction.ASC)
+                        .named("article_created_idx")
+        ));
+
+        declared.put("mcps", List.of(
+                new Index().on("name", Sort.Direction.ASC).unique().named("mcp_name_unique"),
+                new Index().on("category", Sort.Direction.ASC).named("mcp_category_idx")
+        ));
+
+        declared.put("members", List.of(
+                // Member.email의 @Indexed(unique = true)와 같은 이름
+                new Index().on("email", Sort.Direction.ASC).unique().named("email"),
+                // 닉네임 중복 방지 (NicknameAllocator가 할당한 닉네임의 최종 보장)
+                new Index().on("nickname", Sort.Direction.ASC).unique().sparse().named("nickname_unique")
+        ));
+
+        declared.put("recommendations", List.of(
+                // Recommendation의 @CompoundIndex와 같은 이름
+                new Index()
+                        .on("memberId", Sort.Direction.ASC)
+                        .on("articleId", Sort.Direction.ASC)
+                        .unique()
+                        .named("member_article_unique"),
+                // 게시글 삭제 시 추천 기록 일괄 삭제
+                new Index().on("articleId", Sort.Direction.ASC).named("article_idx")
+        ));
+
+        declared.put("refresh_tokens", List.of(
+                // RefreshToken의 @Indexed와 같은 이름 (토큰 해시 조회, 회원당 하나의 토큰)
+                new Index().on("tokenHash", Sort.Direction.ASC).unique().named("token_hash_unique"),
+                new Index().on("memberId", Sort.Direction.ASC).unique().named("member_id_unique"),
+                // expiryDate 시각 도달 시 삭제 (기존 MongoTTLConfig에서 생성하던 인덱스)
+                new Index().on("expiryDate", Sort.Direction.ASC).expire(0).named("expiryDate_1")
+        ));
+
+        declared.put("revoked_tokens", List.of(
+                // AccessToken 만료 시각 도달 시 폐기 목록에서 삭제
+                new Index().on("expiresAt", Sort.Direction.ASC).expire(0).named("expires_at_ttl")
+        ));
+
+        return declared;
+    }
+
+    /**
+     * 새 인덱스로 대체되어 더 이상 쓰지 않는 인덱스 (컬렉션 -> 대체하는 인덱스 이름 -> 기존 인덱스)
+     * 기존 인덱스는 대체하는 인덱스가 생성된 뒤에만 삭제하여, 생성에 실패해도 조회용 인덱스가 사라지지 않도록 합니다.
+     */
+    private Map<String, Map<String, IndexDefinition>> retiredIndexes() {
+        return Map.of(
+                "members", Map.of(
+                        "nickname_unique", new Index().on("nickname", Sort.Direction.ASC).named("nickname_idx")
+                )
+        );
+    }
+
+    /**
+     * 같은 키에 이름/옵션이 다른 인덱스는 함께 둘 수 없으므로, 기존 인덱스를 삭제하고 새 인덱스를 생성합니다.
+     * 새 인덱스 생성에 실패하면 기존 인덱스를 다시 생성합니다.
+     */
+    private void replaceIndex(String collection, IndexOperations indexOps, IndexDefinition predecessor, IndexDefinition index) {
+        try {
+            indexOps.dropIndex(nameOf(predecessor));
+            indexOps.ensureIndex(index);
+            log.info("인덱스 교체 - {}.{} -> {}", collection, nameOf(predecessor), nameOf(index));
+        } catch (DataAccessException e) {
+            log.error("인덱스 교체 실패 - {}.{} -> {}: {}", collection, nameOf(predecessor), nameOf(index), e.getMessage());
+            try {
+                indexOps.ensureIndex(predecessor);
+            } catch (DataAccessException restoreFailure) {
+                log.error("기존 인덱스 복구 실패 - {}.{}: {}", collection, nameOf(predecessor), restoreFailure.getMessage());
+            }
+        }
+    }
+
+    // 대체하는 인덱스가 이미 존재하는 기존 인덱스만 삭제
+    private void dropRetiredIndexes(String collection, IndexOperations indexOps, Map<String, IndexDefinition> retired) {
+        if (retired.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = indexNames(indexOps);
+        retired.forEach((replacement, predecessor) -> {
+            String name = nameOf(predecessor);
+            if (existing.contains(name) && existing.contains(replacement)) {
+                try {
+                    indexOps.dropIndex(name);
+                    log.info("대체된 인덱스 삭제 - {}.{}", collection, name);
+                } catch (DataAccessException e) {
+                    log.error("인덱스 삭제 실패 - {}.{}: {}", collection, name, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private Set<String> indexNames(IndexOperations indexOps) {
+        return indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 선언된 인덱스와 실제 인덱스를 비교합니다.
+     * 선언되지 않은 인덱스는 경고만 남기고, 누락/불일치 항목만 문제로 반환합니다.
+     */
+    private List<String> checkDrift(String collection, List<IndexDefinition> declared, List<IndexInfo> actual) {
+        List<String> problems = new ArrayList<>();
+        Map<String, IndexInfo> actualByName = actual.stream()
+                .collect(Collectors.toMap(IndexInfo::getName, info -> info, (a, b) -> a));
+
+        for (IndexDefinition index : declared) {
+            String name = nameOf(index);
+            IndexInfo info = actualByName.get(name);
+
+            if (info == null) {
+                problems.add(collection + "." + name + " (누락)");
+            } else if (!sameKeys(index.getIndexKeys(), info)) {
+                problems.add(collection + "." + name + " (키 불일치: " + info.getIndexFields() + ")");
+            } else if (index.getIndexOptions().getBoolean("unique", false) != info.isUnique()) {
+                problems.add(collection + "." + name + " (unique 옵션 불일치)");
+            } else if (!sameExpiry(index.getIndexOptions(), info)) {
+                problems.add(collection + "." + name + " (TTL 옵션 불일치)");
+            }
+        }
+
+        Set<String> declaredNames = declared.stream().map(this::nameOf).collect(Collectors.toSet());
+        actual.stream()
+                .map(IndexInfo::getName)
+                .filter(name -> !"_id_".equals(name) && !declaredNames.contains(name))
+                .forEach(name -> log.warn("선언되지 않은 인덱스 - {}.{}", collection, name));
+
+        return problems;
+    }
+
+    private boolean sameKeys(Document declaredKeys, IndexInfo info) {
+        // 텍스트 인덱스는 실제 키가 _fts/_ftsx로 저장되므로 텍스트 필드 존재 여부만 확인
+        if (declaredKeys.containsValue("text")) {
+            return info.getIndexFields().stream().anyMatch(IndexField::isText);
+        }
+
+        List<IndexField> fields = info.getIndexFields();
+        if (fields.size() != declaredKeys.size()) {
+            return false;
+        }
+
+        int i = 0;
+        for (Map.Entry<String, Object> key : declaredKeys.entrySet()) {
+            IndexField field = fields.get(i++);
+            Sort.Direction direction = ((Number) key.getValue()).intValue() < 0 ? Sort.Direction.DESC : Sort.Direction.ASC;
+            if (!field.getKey().equals(key.getKey()) || field.getDirection() != direction) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameExpiry(Document declaredOptions, IndexInfo info) {
+        Optional<Duration> actual = info.getExpireAfter();
+        if (!declaredOptions.containsKey("expireAfterSeconds")) {
+            return actual.isEmpty();
+        }
+        long declaredSeconds = ((Number) declaredOptions.get("expireAfterSeconds")).longValue();
+        return actual.isPresent() && actual.get().getSeconds() == declaredSeconds;
+    }
+
+    private String nameOf(IndexDefinition index) {
+        return index.getIndexOptions().getString("name");
+    }
+}
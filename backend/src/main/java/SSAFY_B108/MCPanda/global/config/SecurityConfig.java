@@ -3,6 +3,7 @@ package SSAFY_B108.MCPanda.global.config;
 import SSAFY_B108.MCPanda.domain.auth.handler.CustomLogoutHandler; // Added import
 import SSAFY_B108.MCPanda.global.jwt.JwtTokenAuthenticationFilter;
 import SSAFY_B108.MCPanda.global.jwt.JwtTokenProvider;
+import SSAFY_B108.MCPanda.global.jwt.RevokedTokenRegistry;
 import SSAFY_B108.MCPanda.domain.auth.oauth2.handler.OAuth2LoginSuccessHandler;
 import SSAFY_B108.MCPanda.domain.auth.oauth2.service.CustomOAuth2UserService;
 import jakarta.servlet.http.HttpServletResponse;
@@ -33,6 +34,9 @@ public class SecurityConfig {
     // JWT 토큰 생성 및 검증을 담당하는 객체
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 폐기된 AccessToken 목록 (로그아웃한 토큰 차단)
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
     // OAuth2 사용자 로딩을 담당하는 서비스
     private final CustomOAuth2UserService customOAuth2UserService;
 
@@ -80,14 +84,16 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/main/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/articles").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/articles/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/comments/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/history/**").permitAll()  // 디버깅용
+                        .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll() // JWT 검증용 공개 키
 
                         // 나머지 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
                 // JWT 인증 필터 추가 (UsernamePasswordAuthenticationFilter 이전에 실행)
                 .addFilterBefore(
-                        new JwtTokenAuthenticationFilter(jwtTokenProvider),
+                        new JwtTokenAuthenticationFilter(jwtTokenProvider, revokedTokenRegistry),
                         UsernamePasswordAuthenticationFilter.class
                 )
                 .exceptionHandling(exception -> exception
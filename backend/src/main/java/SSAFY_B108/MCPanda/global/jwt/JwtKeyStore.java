@@ -0,0 +1,146 @@
+package SSAFY_B108.MCPanda.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 저장소
+ * - 서명: jwt.signing.active-kid가 설정되어 있으면 해당 EC 개인 키로 ES256 서명하고 헤더에 kid를 기록합니다.
+ *         설정되어 있지 않으면 기존처럼 jwt.secret HMAC 키로 HS512 서명합니다.
+ * - 검증: 토큰 헤더의 kid로 공개 키를 찾고, kid가 없는 기존 토큰은 HMAC 키로 검증합니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyStore extends SigningKeyResolverAdapter {
+
+    // 기존 HMAC 키 (kid 없는 토큰 서명/검증용)
+    private final Key hmacKey;
+    private final boolean acceptLegacyHmac;
+
+    // kid -> 검증용 공개 키 (등록 순서 유지)
+    private final Map<String, ECPublicKey> publicKeys = new LinkedHashMap<>();
+
+    private final String activeKid;
+    private final PrivateKey activePrivateKey;
+
+    public JwtKeyStore(@Value("${jwt.secret}") String secretKey, JwtSigningKeyProperties properties) {
+        try {
+            // Base64 디코딩을 사용하여 키 생성
+            this.hmacKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secretKey));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid Base64 encoded secret key: {}", e.getMessage());
+            throw new RuntimeException("JWT 시크릿 키가 유효하지 않습니다.", e);
+        }
+        this.acceptLegacyHmac = properties.isAcceptLegacyHmac();
+
+        PrivateKey privateKey = null;
+        for (JwtSigningKeyProperties.Key key : properties.getKeys()) {
+            if (key.getKid() == null || key.getPublicKey() == null) {
+                throw new IllegalStateException("jwt.signing.keys 항목에는 kid와 public-key가 필요합니다.");
+            }
+            publicKeys.put(key.getKid(), readPublicKey(key.getKid(), key.getPublicKey()));
+
+            if (key.getKid().equals(properties.getActiveKid())) {
+                if (key.getPrivateKey() == null) {
+                    throw new IllegalStateException("서명 키(" + key.getKid() + ")의 private-key가 설정되지 않았습니다.");
+                }
+                privateKey = readPrivateKey(key.getKid(), key.getPrivateKey());
+            }
+        }
+
+        boolean hasActiveKid = properties.getActiveKid() != null && !properties.getActiveKid().isBlank();
+        if (hasActiveKid && privateKey == null) {
+            throw new IllegalStateException("jwt.signing.active-kid(" + properties.getActiveKid() + ")에 해당하는 키가 없습니다.");
+        }
+
+        this.activeKid = hasActiveKid ? properties.getActiveKid() : null;
+        this.activePrivateKey = privateKey;
+
+        log.info("JWT 서명 방식: {}, 검증 키 {}개",
+                activeKid != null ? "ES256 (kid=" + activeKid + ")" : "HS512", publicKeys.size());
+    }
+
+    /**
+     * 새 토큰 서명에 사용할 kid (HMAC 서명이면 null)
+     */
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public Key getSigningKey() {
+        return activePrivateKey != null ? activePrivateKey : hmacKey;
+    }
+
+    public SignatureAlgorithm getSignatureAlgorithm() {
+        return activePrivateKey != null ? SignatureAlgorithm.ES256 : SignatureAlgorithm.HS512;
+    }
+
+    /**
+     * JWKS 공개용 검증 키 목록
+     */
+    public Map<String, ECPublicKey> getPublicKeys() {
+        return Collections.unmodifiableMap(publicKeys);
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 선택합니다.
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (!acceptLegacyHmac) {
+                throw new SignatureException("kid가 없는 토큰은 허용되지 않습니다.");
+            }
+            return hmacKey;
+        }
+
+        ECPublicKey publicKey = publicKeys.get(kid);
+        if (publicKey == null) {
+            throw new SignatureException("알 수 없는 서명 키입니다: " + kid);
+        }
+        return publicKey;
+    }
+
+    private ECPublicKey readPublicKey(String kid, String encoded) {
+        try {
+            return (ECPublicKey) KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (Exception e) {
+            throw new IllegalStateException("JWT 공개 키(" + kid + ")를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private PrivateKey readPrivateKey(String kid, String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (Exception e) {
+            throw new IllegalStateException("JWT 개인 키(" + kid + ")를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // PEM 헤더/공백을 제거하고 Base64 디코딩
+    private byte[] decodePem(String encoded) {
+        String base64 = encoded
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
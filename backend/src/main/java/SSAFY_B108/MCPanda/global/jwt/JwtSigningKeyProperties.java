@@ -0,0 +1,39 @@
+package SSAFY_B108.MCPanda.global.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 비대칭 서명 키 설정 (jwt.signing.*)
+ * active-kid의 개인 키로 새 토큰에 서명하고, keys에 등록된 모든 공개 키로 토큰을 검증합니다.
+ * 키 교체 시 새 키를 추가하고 active-kid를 바꾼 뒤, 이전 키는 기존 토큰이 만료될 때까지 공개 키만 남겨 둡니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningKeyProperties {
+
+    // 새 토큰 서명에 사용할 키 ID (비어 있으면 기존 HMAC(jwt.secret) 서명 사용)
+    private String activeKid;
+
+    // kid가 없는 기존 HMAC 토큰 검증 허용 여부
+    private boolean acceptLegacyHmac = true;
+
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        // EC P-256 공개 키 (X.509 SubjectPublicKeyInfo, Base64 또는 PEM)
+        private String publicKey;
+        // EC P-256 개인 키 (PKCS#8, Base64 또는 PEM) - 서명에 사용하는 키만 필요
+        private String privateKey;
+    }
+}
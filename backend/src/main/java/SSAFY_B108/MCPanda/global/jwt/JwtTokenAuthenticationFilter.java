@@ -25,6 +25,7 @@ import java.util.Optional;
 public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
@@ -51,17 +52,17 @@ public class JwtTokenAuthenticationFilter extends OncePerRequestFilter {
         log.debug("사용할 토큰: {}", jwt != null ?
                 jwt.substring(0, Math.min(10, jwt.length())) + "..." : "null");
 
-        // 토큰이 존재하고 유효한 경우 인증 정보 설정
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-            if (authentication != null) {
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
-            } else {
-                log.debug("Authentication 객체가 null입니다.");
-            }
+        // 토큰이 존재하고 유효한 경우 인증 정보 설정 (검증된 토큰은 캐시된 인증 정보 사용)
+        Optional<VerifiedToken> verified = StringUtils.hasText(jwt) ? jwtTokenProvider.authenticate(jwt) : Optional.empty();
+        if (verified.isPresent() && revokedTokenRegistry.isRevoked(verified.get().claims().getId())) {
+            // 로그아웃 등으로 폐기된 토큰 (블룸 필터를 통과한 경우에만 DB 확인)
+            log.debug("폐기된 토큰입니다.");
+        } else if (verified.isPresent()) {
+            Authentication authentication = verified.get().authentication();
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
         } else {
-            log.debug("토큰이 제공되지 않았습니다.");
+            log.debug("토큰이 제공되지 않았거나 유효하지 않습니다.");
         }
 
         // 현재 인증 상태 로깅
@@ -1,7 +1,6 @@
 package SSAFY_B108.MCPanda.global.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -11,20 +10,28 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
+import SSAFY_B108.MCPanda.domain.auth.dto.MemberPrincipal;
 import SSAFY_B108.MCPanda.domain.auth.oauth2.dto.CustomOAuth2User;
 import SSAFY_B108.MCPanda.domain.member.entity.Member;
-import SSAFY_B108.MCPanda.domain.member.repository.MemberRepository;
+import SSAFY_B108.MCPanda.domain.member.service.MemberCache;
 import org.bson.types.ObjectId;
 
-import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
-    // JWT 서명에 사용할 키
-    private final Key key;
+    // 토큰 종류 클레임 (RefreshToken을 AccessToken으로 사용하지 못하도록 구분)
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // JWT 서명/검증 키 (kid별 ES256 키 또는 기존 HMAC 키)
+    private final JwtKeyStore jwtKeyStore;
+
+    // 서명 검증용 파서 (불변 객체이므로 요청마다 새로 만들지 않고 재사용, kid로 검증 키 선택)
+    private final JwtParser jwtParser;
 
     // access Token 유효기간 (밀리초 단위)
     private final long accessTokenValidityInMilliseconds;
@@ -32,39 +39,34 @@ public class JwtTokenProvider {
     // refresh Token 유효기간 (밀리초 단위)
     private final long refreshTokenValidityInMilliseconds;
 
-    private final MemberRepository memberRepository;
+    // 닉네임 클레임이 없는 기존 토큰 인증 및 토큰 발급 시 회원 조회용
+    private final MemberCache memberCache;
+
+    // 검증이 끝난 AccessToken의 인증 정보 캐시
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * 설정 값을 주입받아 초기화하는 생성자
      *
-     * @param secretKey JWT 서명에 사용할 비밀 키
+     * @param jwtKeyStore JWT 서명/검증 키 저장소
      * @param accessTokenValidityInSeconds AccessToken 유효 시간 (초 단위)
      * @param refreshTokenValidityInSeconds RefreshToken 유효 시간 (초 단위)
      */
     public JwtTokenProvider(
-            @Value("${jwt.secret}") String secretKey,
+            JwtKeyStore jwtKeyStore,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
             @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
-            MemberRepository memberRepository) {
+            MemberCache memberCache,
+            VerifiedTokenCache verifiedTokenCache) {
 
-        log.info("Secret key: {}", secretKey);
-        // 비밀 키를 바이트 배열로 변환하여 HMAC SHA 키 생성
-        try {
-            // Base64 디코딩을 사용하여 키 생성
-            byte[] decodedKey = Base64.getDecoder().decode(secretKey);
-            log.info("Decoded key: {}", decodedKey);
-            log.info("Decoded key length: {} bytes", decodedKey.length);
-
-            this.key = Keys.hmacShaKeyFor(decodedKey);
-        } catch (IllegalArgumentException e) {
-            log.error("Invalid Base64 encoded secret key: {}", e.getMessage());
-            throw new RuntimeException("JWT 시크릿 키가 유효하지 않습니다.", e);
-        }
+        this.jwtKeyStore = jwtKeyStore;
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(jwtKeyStore).build();
 
         // 초 단위를 밀리초 단위로 변환
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
-        this.memberRepository = memberRepository;
+        this.memberCache = memberCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     /**
@@ -78,47 +80,54 @@ public class JwtTokenProvider {
         String memberId = null;
         String email = null;
         String name = null;
+        String nickname = null;
 
         Object principal = authentication.getPrincipal();
-        log.info("Authentication 클래스: {}", authentication.getClass().getName());
-        log.info("Principal 클래스: {}", principal.getClass().getName());
+        log.debug("Principal 클래스: {}", principal.getClass().getName());
 
-        // 두 가지 Principal 타입 처리
+        // Principal 타입별 처리
         if (principal instanceof CustomOAuth2User) {
             // OAuth2 로그인 시
             CustomOAuth2User user = (CustomOAuth2User) principal;
             memberId = user.getMemberId(); // attributes 맵에서 "memberId" 키 값 가져옴
             email = user.getEmail();
             name = user.getName();
+            nickname = user.getNickname();
 
-            log.info("CustomOAuth2User로부터 정보 추출 - memberId: {}, email: {}, name: {}", memberId, email, name);
+            log.debug("CustomOAuth2User로부터 정보 추출 - memberId: {}", memberId);
 
             // memberId가 없으면 email을 기반으로 회원 조회
             if (memberId == null || memberId.isEmpty()) {
                 try {
-                    Member member = memberRepository.findByEmail(email).orElse(null);
+                    Member member = memberCache.findByEmail(email).orElse(null);
                     if (member != null) {
                         memberId = member.getId().toString();
-                        log.info("CustomOAuth2User - email로 회원 조회 성공, memberId: {}", memberId);
+                        nickname = member.getNickname();
+                        log.debug("CustomOAuth2User - email로 회원 조회 성공, memberId: {}", memberId);
                     }
                 } catch (Exception e) {
                     log.error("CustomOAuth2User - email로 회원 조회 중 오류: {}", e.getMessage());
                 }
             }
+        } else if (principal instanceof MemberPrincipal memberPrincipal) {
+            // 토큰 재발급 시 (이미 조회한 회원 정보 사용)
+            memberId = memberPrincipal.getMemberId();
+            email = memberPrincipal.getEmail();
+            nickname = memberPrincipal.getNickname();
         } else if (principal instanceof User) {
-            // 토큰 재발급 시
             User user = (User) principal;
             email = user.getUsername(); // User의 username은 일반적으로 email
 
-            log.info("User 타입으로부터 정보 추출 - email: {}", email);
+            log.debug("User 타입으로부터 정보 추출 - email: {}", email);
 
-            // email을 기반으로 MongoDB에서 Member 조회
+            // email을 기반으로 Member 조회
             try {
-                Member member = memberRepository.findByEmail(email).orElse(null);
+                Member member = memberCache.findByEmail(email).orElse(null);
                 if (member != null) {
                     memberId = member.getId().toString();
                     name = member.getName(); // 회원의 이름 가져오기 (필요한 경우)
-                    log.info("User 타입 - email로 회원 조회 성공, memberId: {}", memberId);
+                    nickname = member.getNickname();
+                    log.debug("User 타입 - email로 회원 조회 성공, memberId: {}", memberId);
                 } else {
                     log.warn("email: {}에 해당하는 회원을 찾을 수 없습니다.", email);
                 }
@@ -146,19 +155,22 @@ public class JwtTokenProvider {
         Date validity = new Date(now + this.accessTokenValidityInMilliseconds);
 
         // JWT 토큰 생성 및 반환
-        return Jwts.builder()
+        return sign(Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 고유 ID (jti, 로그아웃 시 폐기 목록 키)
                 .setSubject(memberId)         // memberId를 subject로 설정
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE) // 토큰 종류
                 .claim("auth", authorities)   // 권한 정보
                 .claim("email", email)        // email 저장
                 .claim("name", name)          // 이름 저장 (null 가능)
+                .claim("nickname", nickname)  // 닉네임 저장 (인증 시 회원 조회 없이 Principal 생성)
                 .setIssuedAt(new Date(now))   // 발행 시간
-                .setExpiration(validity)      // 만료 시간
-                .signWith(key, SignatureAlgorithm.HS512)  // 서명 알고리즘
-                .compact();
+                .setExpiration(validity));    // 만료 시간
     }
 
     /**
-     * RefreshToken 생성 (권한 정보 미포함)
+     * RefreshToken 생성
+     * 재발급 시 회원 조회 없이 새 AccessToken을 만들 수 있도록 권한과 닉네임을 포함하고,
+     * 같은 시각에 발급되어도 토큰 값(해시)이 겹치지 않도록 고유 ID(jti)를 부여합니다.
      *
      * @param authentication 인증 정보
      * @return 생성된 Refresh 토큰 문자열
@@ -172,39 +184,47 @@ public class JwtTokenProvider {
         String memberId = null;
         String email;
         String name = null;
+        String nickname = null;
 
         Object principal = authentication.getPrincipal();
 
-        // 두 가지 Principal 타입 처리
+        // Principal 타입별 처리
         if (principal instanceof CustomOAuth2User user) {
             memberId = user.getMemberId();
             email = user.getEmail();
             name = user.getName();
+            nickname = user.getNickname();
 
-            log.info("RefreshToken - CustomOAuth2User로부터 정보 추출 - memberId: {}, email: {}", memberId, email);
+            log.debug("RefreshToken - CustomOAuth2User로부터 정보 추출 - memberId: {}", memberId);
 
             if (memberId == null || memberId.isEmpty()) {
                 try {
-                    Member member = memberRepository.findByEmail(email).orElse(null);
+                    Member member = memberCache.findByEmail(email).orElse(null);
                     if (member != null) {
                         memberId = member.getId().toString();
-                        log.info("RefreshToken - CustomOAuth2User, email로 회원 조회 성공, memberId: {}", memberId);
+                        nickname = member.getNickname();
+                        log.debug("RefreshToken - CustomOAuth2User, email로 회원 조회 성공, memberId: {}", memberId);
                     }
                 } catch (Exception e) {
                     log.error("RefreshToken - CustomOAuth2User, email로 회원 조회 중 오류: {}", e.getMessage());
                 }
             }
+        } else if (principal instanceof MemberPrincipal memberPrincipal) {
+            memberId = memberPrincipal.getMemberId();
+            email = memberPrincipal.getEmail();
+            nickname = memberPrincipal.getNickname();
         } else if (principal instanceof User user) {
             email = user.getUsername();
 
-            log.info("RefreshToken - User 타입으로부터 정보 추출 - email: {}", email);
+            log.debug("RefreshToken - User 타입으로부터 정보 추출 - email: {}", email);
 
             try {
-                Member member = memberRepository.findByEmail(email).orElse(null);
+                Member member = memberCache.findByEmail(email).orElse(null);
                 if (member != null) {
                     memberId = member.getId().toString();
                     name = member.getName();
-                    log.info("RefreshToken - User 타입, email로 회원 조회 성공, memberId: {}", memberId);
+                    nickname = member.getNickname();
+                    log.debug("RefreshToken - User 타입, email로 회원 조회 성공, memberId: {}", memberId);
                 } else {
                     log.warn("RefreshToken - email: {}에 해당하는 회원을 찾을 수 없습니다.", email);
                 }
@@ -222,89 +242,163 @@ public class JwtTokenProvider {
             memberId = email;
         }
 
+        // 권한 정보 문자열로 변환
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
         // JWT 토큰 생성 및 반환
-        return Jwts.builder()
+        return sign(Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 고유 ID (jti)
                 .setSubject(memberId)          // memberId를 subject로 설정
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE) // 토큰 종류 (API 인증에는 사용 불가)
+                .claim("auth", authorities)    // 권한 정보 (재발급 시 사용)
                 .claim("email", email)         // email 저장
                 .claim("name", name)           // 이름 저장 (null 가능)
+                .claim("nickname", nickname)   // 닉네임 저장 (재발급 시 사용)
                 .setIssuedAt(new Date(now))    // 발행 시간
-                .setExpiration(validity)       // 만료 시간
-                .signWith(key, SignatureAlgorithm.HS512)  // 서명 알고리즘
+                .setExpiration(validity));     // 만료 시간
+    }
+
+    /**
+     * 현재 서명 키로 토큰에 서명합니다. (ES256이면 헤더에 kid 기록)
+     */
+    private String sign(JwtBuilder builder) {
+        String kid = jwtKeyStore.getActiveKid();
+        if (kid != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, kid);
+        }
+        return builder
+                .signWith(jwtKeyStore.getSigningKey(), jwtKeyStore.getSignatureAlgorithm())
                 .compact();
     }
 
     /**
-     * JWT 토큰에서 인증 정보 추출
+     * 토큰의 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     * 한 요청에서 토큰을 한 번만 파싱하도록, 검증이 필요한 곳에서는 이 결과를 재사용합니다.
      * @param token JWT 토큰
-     * @return Spring Security Authentication 객체
+     * @return 검증된 클레임 (유효하지 않으면 empty)
      */
-    public Authentication getAuthentication(String token) {
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-
-            String memberId = claims.getSubject();
-            log.info("claims.getSubject()로 가져온 memberId: {}", memberId);
-
-            // email 정보 추출
-            String email = claims.get("email", String.class);
-            log.info("claims에서 추출한 email: {}", email);
-
-            // auth 클레임 처리
-            String authClaim = claims.get("auth", String.class);
-            Collection<? extends GrantedAuthority> authorities;
-
-            if (authClaim != null && !authClaim.isEmpty()) {
-                authorities = Arrays.stream(authClaim.split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-            } else {
-                authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
-            }
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            // 사용자 ID가 있으면 Member 객체 조회
-            if (memberId != null && !memberId.isEmpty() && ObjectId.isValid(memberId)) {
-                try {
-                    ObjectId objectId = new ObjectId(memberId);
-                    Member member = memberRepository.findById(objectId).orElse(null);
+    /**
+     * AccessToken을 검증하고 인증 정보를 반환합니다.
+     * 이미 검증된 토큰이면 캐시된 결과를 그대로 사용하여 서명 검증과 권한 생성을 건너뜁니다.
+     * RefreshToken 등 AccessToken이 아닌 토큰은 서명이 유효해도 거부합니다.
+     * @param token JWT 토큰
+     * @return 검증된 클레임과 인증 정보 (유효하지 않거나 AccessToken이 아니면 empty)
+     */
+    public Optional<VerifiedToken> authenticate(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-                    if (member != null) {
-                        return new UsernamePasswordAuthenticationToken(member, token, authorities);
-                    }
-                } catch (Exception e) {
-                    log.error("Member ID 변환 오류: {}", e.getMessage());
-                }
-            }
+        return parseClaims(token).filter(this::isAccessToken).map(claims -> {
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(claims, getAuthentication(claims, token),
+                    expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+            verifiedTokenCache.put(token, verified);
+            return verified;
+        });
+    }
 
-            // email로 Member 조회 시도
-            if (email != null && !email.isEmpty()) {
-                try {
-                    Member member = memberRepository.findByEmail(email).orElse(null);
+    /**
+     * AccessToken인지 확인합니다.
+     * 종류 클레임이 없는 기존 토큰은 권한(auth) 클레임이 있을 때만 AccessToken으로 봅니다. (기존 RefreshToken에는 auth가 없음)
+     */
+    public boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null ? claims.get("auth") != null : ACCESS_TOKEN_TYPE.equals(type);
+    }
 
-                    if (member != null) {
-                        return new UsernamePasswordAuthenticationToken(member, token, authorities);
-                    }
-                } catch (Exception e) {
-                    log.error("email로 회원 조회 중 오류: {}", e.getMessage());
-                }
-            }
+    /**
+     * RefreshToken인지 확인합니다. (종류 클레임이 없는 기존 토큰은 AccessToken이 아니면 RefreshToken으로 봄)
+     */
+    public boolean isRefreshToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null ? claims.get("auth") == null : REFRESH_TOKEN_TYPE.equals(type);
+    }
 
-            // 유효한 ID 결정
-            String userIdentifier = (email != null && !email.isEmpty()) ? email :
-                    (memberId != null && !memberId.isEmpty()) ? memberId : "anonymousUser";
+    /**
+     * 토큰을 검증 캐시에서 제거합니다. (로그아웃 시 사용)
+     */
+    public void evictVerifiedToken(String token) {
+        verifiedTokenCache.evict(token);
+    }
+
+    /**
+     * JWT 토큰에서 인증 정보 추출
+     * @param token JWT 토큰
+     * @return Spring Security Authentication 객체
+     */
+    public Authentication getAuthentication(String token) {
+        return parseClaims(token)
+                .filter(this::isAccessToken)
+                .map(claims -> getAuthentication(claims, token))
+                .orElseGet(() -> new AnonymousAuthenticationToken(
+                        "anonymous", "anonymousUser",
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+    }
 
+    /**
+     * 검증된 클레임으로 인증 정보 생성
+     * 회원 ID(subject)와 닉네임 클레임이 있으면 DB 조회 없이 MemberPrincipal을 만들고,
+     * 닉네임 클레임이 없는 기존 토큰만 MemberCache를 통해 회원을 조회합니다.
+     * @param claims parseClaims로 검증된 클레임
+     * @param token 원본 JWT 토큰 (credentials)
+     * @return Spring Security Authentication 객체
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
+        String memberId = claims.getSubject();
+        String email = claims.get("email", String.class);
+        String nickname = claims.get("nickname", String.class);
+
+        // auth 클레임 처리
+        String authClaim = claims.get("auth", String.class);
+        Collection<? extends GrantedAuthority> authorities;
+
+        if (authClaim != null && !authClaim.isEmpty()) {
+            authorities = Arrays.stream(authClaim.split(","))
+                    .map(SimpleGrantedAuthority::new)
+                    .toList();
+        } else {
+            authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+
+        // 클레임만으로 Principal 생성 (DB 조회 없음)
+        if (memberId != null && ObjectId.isValid(memberId) && nickname != null) {
             return new UsernamePasswordAuthenticationToken(
-                    new User(userIdentifier, "", authorities), token, authorities);
+                    new MemberPrincipal(memberId, email, nickname), token, authorities);
+        }
 
-        } catch (JwtException e) {
-            log.error("JWT 토큰 파싱 오류: {}", e.getMessage());
-            return new AnonymousAuthenticationToken(
-                    "anonymous", "anonymousUser",
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_ANONYMOUS")));
+        // 닉네임 클레임이 없는 기존 토큰: 회원 ID 또는 email로 조회 (짧은 TTL 캐시)
+        try {
+            Optional<Member> member = memberCache.findById(memberId);
+            if (member.isEmpty()) {
+                member = memberCache.findByEmail(email);
+            }
+            if (member.isPresent()) {
+                return new UsernamePasswordAuthenticationToken(
+                        MemberPrincipal.from(member.get()), token, authorities);
+            }
+        } catch (Exception e) {
+            log.error("토큰의 회원 조회 중 오류: {}", e.getMessage());
         }
+
+        // 유효한 ID 결정
+        String userIdentifier = (email != null && !email.isEmpty()) ? email :
+                (memberId != null && !memberId.isEmpty()) ? memberId : "anonymousUser";
+
+        return new UsernamePasswordAuthenticationToken(
+                new User(userIdentifier, "", authorities), token, authorities);
     }
 
     /**
@@ -313,34 +407,38 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return parseClaims(token).filter(this::isAccessToken).isPresent();
+    }
+
+    /**
+     * 서명이 유효한 토큰의 클레임을 만료 여부와 관계없이 반환합니다. (로그아웃 처리용)
+     * @param token JWT 토큰
+     * @return 클레임 (서명이 유효하지 않으면 empty)
+     */
+    public Optional<Claims> parseClaimsAllowExpired(String token) {
         try {
-            // 토큰 파싱 시도
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Optional.of(jwtParser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            return Optional.of(e.getClaims());
         } catch (JwtException | IllegalArgumentException e) {
-            // 토큰 파싱 실패 시 로그 기록
-            log.info("Invalid JWT token: {}", e.getMessage());
-            return false;
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
     /**
      * 토큰에서 사용자 이름(ID) 추출
+     * 서명이 유효하면 만료된 토큰에서도 추출합니다. (서명이 유효하지 않으면 JwtException)
      * @param token JWT 토큰
      * @return 사용자 이름
      */
     public String getMemberIdFromToken(String token) {
         try {
             // 토큰에서 memberId 추출
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
+            return jwtParser.parseClaimsJws(token).getBody().getSubject();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰에서도 사용자 이름 추출 가능
             return e.getClaims().getSubject();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package SSAFY_B108.MCPanda.global.jwt;
+
+import SSAFY_B108.MCPanda.domain.auth.entity.RevokedToken;
+import SSAFY_B108.MCPanda.global.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * 폐기된 AccessToken(jti) 목록
+ * 폐기 목록은 revoked_tokens 컬렉션에 저장하고, 앞단의 블룸 필터로 폐기되지 않은 토큰(대부분의 요청)은 DB 조회 없이 통과시킵니다.
+ * 블룸 필터가 "있을 수 있음"이라고 답한 경우에만 DB에서 확인합니다.
+ * 블룸 필터는 만료된 항목을 덜어내고 다른 서버의 폐기 내역을 반영하기 위해 주기적으로(jwt.revocation.rebuild-interval-ms) 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    private final MongoTemplate mongoTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+
+    // 마지막 재생성 이후 폐기된 jti (재생성 중 이전 필터에만 기록된 jti를 새 필터에 다시 반영)
+    private final Queue<String> revokedSinceRebuild = new ConcurrentLinkedQueue<>();
+
+    public RevokedTokenRegistry(MongoTemplate mongoTemplate,
+                                @Value("${jwt.revocation.bloom.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${jwt.revocation.bloom.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.mongoTemplate = mongoTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰을 폐기 목록에 추가합니다.
+     * @param jti AccessToken의 jti
+     * @param memberId 토큰의 회원 ID
+     * @param expiresAt 토큰 만료 시각 (이후 자동 삭제)
+     */
+    public void revoke(String jti, String memberId, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        try {
+            mongoTemplate.insert(new RevokedToken(jti, memberId, expiresAt));
+        } catch (DuplicateKeyException e) {
+            // 이미 폐기된 토큰
+        }
+
+        // 필터보다 큐에 먼저 기록하여, 교체 직전의 필터에 기록되더라도 교체 후 비우는 큐를 통해 새 필터에 반영되도록 함
+        revokedSinceRebuild.add(jti);
+        filter.put(jti);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. (jti가 없는 기존 토큰은 폐기 대상이 아님)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return mongoTemplate.exists(Query.query(Criteria.where("_id").is(jti)), RevokedToken.class);
+        } catch (DataAccessException e) {
+            // 확인할 수 없으면 블룸 필터 결과를 따름 (폐기된 것으로 간주)
+            log.error("폐기 토큰 조회 실패: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 만료되지 않은 폐기 목록으로 블룸 필터를 다시 만듭니다.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}", initialDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    public synchronized void rebuild() {
+        try {
+            Query query = Query.query(Criteria.where("expiresAt").gt(Instant.now()));
+            query.fields().include("_id");
+
+            long count = mongoTemplate.count(query, RevokedToken.class);
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, count * 2), falsePositiveRate);
+
+            String collection = mongoTemplate.getCollectionName(RevokedToken.class);
+            try (Stream<Document> revoked = mongoTemplate.stream(query, Document.class, collection)) {
+                Iterator<Document> iterator = revoked.iterator();
+                while (iterator.hasNext()) {
+                    rebuilt.put(String.valueOf(iterator.next().get("_id")));
+                }
+            }
+
+            // 교체 후에 큐를 비워야 이전 필터에만 기록된 jti가 빠지지 않음
+            filter = rebuilt;
+        } catch (DataAccessException e) {
+            // 실패 시 기존 필터 유지 (큐의 jti는 이미 기존 필터에 기록됨)
+            log.error("폐기 토큰 블룸 필터 재생성 실패: {}", e.getMessage());
+        } finally {
+            drainRevokedSinceRebuild(filter);
+        }
+    }
+
+    private void drainRevokedSinceRebuild(BloomFilter target) {
+        String jti;
+        while ((jti = revokedSinceRebuild.poll()) != null) {
+            target.put(jti);
+        }
+    }
+}
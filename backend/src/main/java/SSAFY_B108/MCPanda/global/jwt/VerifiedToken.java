@@ -0,0 +1,13 @@
+package SSAFY_B108.MCPanda.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증이 끝난 AccessToken의 클레임과 인증 정보
+ * @param claims 검증된 클레임 (jti 등 필터에서 필요한 값 조회용)
+ * @param authentication 클레임으로 만든 인증 정보
+ * @param expiresAt 토큰 만료 시각 (epoch millis)
+ */
+public record VerifiedToken(Claims claims, Authentication authentication, long expiresAt) {
+}
@@ -0,0 +1,74 @@
+package SSAFY_B108.MCPanda.global.jwt;
+
+import SSAFY_B108.MCPanda.global.util.HashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증이 끝난 AccessToken 캐시
+ * 같은 토큰으로 반복되는 요청은 서명 검증, 클레임 파싱, 권한 생성을 건너뛰고 캐시된 인증 정보를 사용합니다.
+ * 키는 토큰 원문 대신 SHA-256 해시를 사용하며, 엔트리는 토큰 만료 시각에 만료되고 로그아웃 시 제거됩니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    // 토큰 해시 -> 검증된 클레임과 인증 정보
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환합니다. (없거나 토큰이 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = HashUtils.sha256Hex(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보를 저장합니다. (만료 시각이 없는 토큰은 캐시하지 않음)
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled || verified.expiresAt() == Long.MAX_VALUE) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (cache.size() >= maxEntries) {
+            cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(HashUtils.sha256Hex(token), verified);
+    }
+
+    /**
+     * 토큰을 캐시에서 제거합니다. (로그아웃 시 사용)
+     */
+    public void evict(String token) {
+        cache.remove(HashUtils.sha256Hex(token));
+    }
+}
@@ -0,0 +1,71 @@
+package SSAFY_B108.MCPanda.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 블룸 필터 (스레드 안전)
+ * mightContain이 false이면 확실히 없는 키이고, true이면 오탐(false positive)일 수 있습니다.
+ * 비트 배열은 AtomicLongArray로 관리하여 락 없이 동시에 추가/조회할 수 있습니다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 키 개수
+     * @param falsePositiveRate 허용 오탐률 (0 < fpp < 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) >>> 6);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 시드별 64비트 해시 (FNV-1a 변형 + 비트 섞기)
+    private static long hash(String key, long seed) {
+        long hash = seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,55 @@
+package SSAFY_B108.MCPanda.global.util;
+
+import SSAFY_B108.MCPanda.global.exception.CustomException;
+import SSAFY_B108.MCPanda.global.response.ApiStatusCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 커서 인코딩/디코딩 유틸
+ * 정렬 키 값들을 구분자로 이어 붙인 뒤 base64url로 인코딩하여 클라이언트에는 불투명한 문자열로 전달합니다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 정렬 키 값들을 커서 문자열로 인코딩합니다.
+     * @param parts 커서를 구성하는 값 (구분자 '|'를 포함하면 안 됨)
+     * @return base64url 인코딩된 커서
+     */
+    public static String encode(String... parts) {
+        String raw = String.join(DELIMITER, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키 값들로 디코딩합니다.
+     * @param cursor 클라이언트가 전달한 커서
+     * @param expectedParts 기대하는 값의 개수
+     * @return 디코딩된 값 배열
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 (400)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+
+        String[] parts = raw.split("\\" + DELIMITER, -1);
+        if (parts.length != expectedParts) {
+            throw invalidCursor();
+        }
+        return parts;
+    }
+
+    public static CustomException invalidCursor() {
+        return new CustomException(ApiStatusCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+    }
+}
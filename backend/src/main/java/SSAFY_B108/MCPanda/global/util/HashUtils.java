@@ -0,0 +1,32 @@
+package SSAFY_B108.MCPanda.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 해시 유틸
+ * 토큰 원문을 저장하거나 캐시 키로 쓰지 않도록 SHA-256 해시로 변환할 때 사용합니다.
+ */
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    /**
+     * 문자열의 SHA-256 해시를 16진수 문자열로 반환합니다.
+     * @param value 해시할 문자열 (UTF-8)
+     * @return 64자리 16진수 해시
+     */
+    public static String sha256Hex(String value) {
+        try {
+            // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package SSAFY_B108.MCPanda.global.util;
+
+/**
+ * 목록 조회 API의 페이지 크기 제한
+ * 컨트롤러에서는 @Min(MIN) / @Max(MAX)로 요청 값을 검증(범위 밖이면 400)하고,
+ * 서비스에서는 내부 호출(설정값 등)도 같은 범위로 보정하여 한 번에 조회하는 문서 수를 제한합니다.
+ */
+public final class PageSizeLimits {
+
+    public static final int MIN = 1;
+    public static final int MAX = 100;
+
+    private PageSizeLimits() {
+    }
+
+    /**
+     * 페이지 크기를 허용 범위(MIN ~ MAX)로 보정합니다.
+     * @param size 요청한 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    public static int clamp(int size) {
+        return Math.max(MIN, Math.min(MAX, size));
+    }
+}
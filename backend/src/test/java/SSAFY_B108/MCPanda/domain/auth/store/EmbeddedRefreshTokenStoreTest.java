@@ -0,0 +1,224 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddedRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    // capacity 32 -> 삽입 한도 24 (capacity - capacity / 4), 압축 기준 removed > 4 (capacity / 8)
+    private static final int CAPACITY = 32;
+    private static final int LOAD_LIMIT = 24;
+    private static final long TICK_MILLIS = 20;
+    private static final int WHEEL_SIZE = 8;
+
+    @TempDir
+    Path tempDir;
+
+    // 만료/tick 검증은 sleep 대신 이 시계를 진행시켜 수행
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private final EmbeddedRefreshTokenStore contractStore = newStore(null);
+
+    @Override
+    protected RefreshTokenStore store() {
+        return contractStore;
+    }
+
+    @Override
+    protected Instant now() {
+        return clock.instant();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 회원 ID는 거부한다")
+    void rejectsInvalidMemberId() {
+        EmbeddedRefreshTokenStore store = newStore(null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.save("not-an-object-id", hash("t1"), clock.instant().plus(Duration.ofHours(1))));
+        assertThrows(IllegalArgumentException.class, () -> store.delete(null));
+    }
+
+    @Test
+    @DisplayName("삭제된 슬롯을 지나 탐색하고, 삭제된 회원을 다시 저장할 수 있다")
+    void deleteAndReinsertAcrossTombstones() {
+        EmbeddedRefreshTokenStore store = newStore(null);
+        Instant now = clock.instant();
+        Instant expiry = now.plus(Duration.ofHours(1));
+
+        List<String> memberIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String memberId = newMemberId();
+            memberIds.add(memberId);
+            store.save(memberId, hash("a" + i), expiry);
+        }
+        for (int i = 0; i < memberIds.size(); i += 2) {
+            store.delete(memberIds.get(i));
+        }
+        assertEquals(10, store.size());
+
+        for (int i = 0; i < memberIds.size(); i++) {
+            boolean kept = i % 2 == 1;
+            assertEquals(kept, store.rotate(memberIds.get(i), hash("a" + i), hash("b" + i), expiry, now));
+        }
+
+        for (int i = 0; i < memberIds.size(); i += 2) {
+            store.save(memberIds.get(i), hash("b" + i), expiry);
+        }
+        assertEquals(20, store.size());
+        for (int i = 0; i < memberIds.size(); i++) {
+            assertTrue(store.rotate(memberIds.get(i), hash("b" + i), hash("c" + i), expiry, now));
+        }
+    }
+
+    @Test
+    @DisplayName("압축 후에도 기존 레코드와 만료 wheel 등록이 유지된다")
+    void compactPreservesRecordsAndWheelRegistration() {
+        EmbeddedRefreshTokenStore store = newStore(null);
+        Instant now = clock.instant();
+        Instant longExpiry = now.plus(Duration.ofHours(1));
+
+        List<String> live = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String memberId = newMemberId();
+            live.add(memberId);
+            store.save(memberId, hash("live" + i), longExpiry);
+        }
+        // 압축 전에 교체 이력을 남겨 두고 압축 후에도 조회되는지 확인
+        assertTrue(store.rotate(live.get(0), hash("live0"), hash("rotated"), longExpiry, now));
+
+        String shortLived = newMemberId();
+        store.save(shortLived, hash("short"), now.plus(Duration.ofMillis(200)));
+        for (int i = 0; i < LOAD_LIMIT - 13; i++) {
+            store.save(newMemberId(), hash("expired" + i), now.minus(Duration.ofSeconds(1)));
+        }
+        assertEquals(LOAD_LIMIT, store.size());
+
+        // 한도에 도달한 상태의 삽입 -> 만료 정리(11건) 후 압축
+        String newcomer = newMemberId();
+        store.save(newcomer, hash("new"), longExpiry);
+        assertEquals(14, store.size());
+
+        assertEquals(Optional.of(Instant.ofEpochMilli(now.toEpochMilli())), store.findRotatedAt(live.get(0), hash("live0")));
+        assertTrue(store.rotate(live.get(0), hash("rotated"), hash("rotated2"), longExpiry, now));
+        for (int i = 1; i < live.size(); i++) {
+            assertTrue(store.rotate(live.get(i), hash("live" + i), hash("next" + i), longExpiry, now));
+        }
+        assertTrue(store.rotate(newcomer, hash("new"), hash("new2"), longExpiry, now));
+
+        // 압축 시 다시 배치된 슬롯도 wheel에 등록되어 있어야 만료 tick에 제거된다
+        clock.advance(Duration.ofMillis(400));
+        store.expire();
+        assertEquals(13, store.size());
+    }
+
+    @Test
+    @DisplayName("tick이 wheel 한 바퀴 이상 밀려도 만료된 토큰만 제거한다")
+    void expireAfterMultiTickGap() {
+        EmbeddedRefreshTokenStore store = newStore(null);
+        Instant now = clock.instant();
+        String shortLived = newMemberId();
+        String longLived = newMemberId();
+
+        store.save(shortLived, hash("short"), now.plus(Duration.ofMillis(30)));
+        store.save(longLived, hash("long"), now.plus(Duration.ofHours(1)));
+
+        // tick 20ms x wheel 8 = 160ms 를 넘겨 한 바퀴 이상 밀린 상태
+        clock.advance(Duration.ofMillis(TICK_MILLIS * WHEEL_SIZE * 2));
+        store.expire();
+
+        assertEquals(1, store.size());
+        assertTrue(store.rotate(longLived, hash("long"), hash("long2"), now.plus(Duration.ofHours(1)), clock.instant()));
+
+        // 이후 tick에서도 남은 토큰은 유지된다
+        clock.advance(Duration.ofMillis(TICK_MILLIS * 2));
+        store.expire();
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("스냅샷을 기록하고 새 저장소에서 복원한다 (만료된 토큰 제외)")
+    void snapshotRoundTrip() {
+        Path snapshot = tempDir.resolve("refresh-tokens.snapshot");
+        EmbeddedRefreshTokenStore store = newStore(snapshot);
+        Instant now = clock.instant();
+        Instant expiry = now.plus(Duration.ofHours(1));
+
+        String rotated = newMemberId();
+        String plain = newMemberId();
+        String expired = newMemberId();
+        store.save(rotated, hash("r1"), expiry);
+        assertTrue(store.rotate(rotated, hash("r1"), hash("r2"), expiry, now));
+        store.save(plain, hash("p1"), expiry);
+        store.save(expired, hash("e1"), now.minus(Duration.ofSeconds(1)));
+
+        store.snapshot();
+        assertTrue(Files.exists(snapshot));
+        assertFalse(Files.exists(tempDir.resolve("refresh-tokens.snapshot.tmp")));
+
+        EmbeddedRefreshTokenStore restored = newStore(snapshot);
+        restored.restore();
+
+        assertEquals(2, restored.size());
+        assertEquals(Optional.of(Instant.ofEpochMilli(now.toEpochMilli())), restored.findRotatedAt(rotated, hash("r1")));
+        assertTrue(restored.rotate(rotated, hash("r2"), hash("r3"), expiry, now));
+        assertTrue(restored.rotate(plain, hash("p1"), hash("p2"), expiry, now));
+        assertFalse(restored.rotate(expired, hash("e1"), hash("e2"), expiry, now));
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 스냅샷은 무시한다")
+    void restoreIgnoresCorruptSnapshot() throws Exception {
+        Path snapshot = tempDir.resolve("refresh-tokens.snapshot");
+        Files.write(snapshot, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        EmbeddedRefreshTokenStore store = newStore(snapshot);
+        store.restore();
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("만료 정리 후에도 한도를 넘으면 새 회원 저장을 거부한다")
+    void rejectsNewMemberWhenCapacityExceeded() {
+        EmbeddedRefreshTokenStore store = newStore(null);
+        Instant expiry = clock.instant().plus(Duration.ofHours(1));
+
+        List<String> memberIds = new ArrayList<>();
+        for (int i = 0; i < LOAD_LIMIT; i++) {
+            String memberId = newMemberId();
+            memberIds.add(memberId);
+            store.save(memberId, hash("t" + i), expiry);
+        }
+
+        assertThrows(IllegalStateException.class, () -> store.save(newMemberId(), hash("overflow"), expiry));
+        assertEquals(LOAD_LIMIT, store.size());
+
+        // 이미 저장된 회원의 갱신은 새 슬롯이 필요 없으므로 허용된다
+        store.save(memberIds.get(0), hash("renewed"), expiry);
+
+        // 삭제로 자리가 생기면 다시 저장할 수 있다
+        store.delete(memberIds.get(1));
+        store.save(newMemberId(), hash("after-delete"), expiry);
+        assertEquals(LOAD_LIMIT, store.size());
+    }
+
+    private EmbeddedRefreshTokenStore newStore(Path snapshotPath) {
+        return new EmbeddedRefreshTokenStore(CAPACITY, TICK_MILLIS, WHEEL_SIZE,
+                snapshotPath != null ? snapshotPath.toString() : null, clock);
+    }
+}
@@ -0,0 +1,23 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * MongoRefreshTokenStore 계약 테스트 (MONGODB_URI로 지정한 MongoDB 필요)
+ */
+@DataMongoTest
+@Import(MongoRefreshTokenStore.class)
+@EnabledIfEnvironmentVariable(named = "MONGODB_URI", matches = ".+")
+class MongoRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    @Autowired
+    private MongoRefreshTokenStore store;
+
+    @Override
+    protected RefreshTokenStore store() {
+        return store;
+    }
+}
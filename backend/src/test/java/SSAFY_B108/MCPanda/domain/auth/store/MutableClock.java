@@ -0,0 +1,38 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 테스트에서 직접 진행시키는 Clock (sleep 없이 만료/tick을 검증하기 위해 사용)
+ */
+class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
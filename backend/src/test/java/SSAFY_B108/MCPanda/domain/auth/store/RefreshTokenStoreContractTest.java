@@ -0,0 +1,113 @@
+package SSAFY_B108.MCPanda.domain.auth.store;
+
+import SSAFY_B108.MCPanda.global.util.HashUtils;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RefreshTokenStore 구현체가 공통으로 지켜야 하는 동작 (구현체별 테스트가 상속)
+ */
+abstract class RefreshTokenStoreContractTest {
+
+    /**
+     * 테스트 대상 저장소
+     */
+    protected abstract RefreshTokenStore store();
+
+    /**
+     * 저장소가 사용하는 현재 시각
+     */
+    protected Instant now() {
+        return Instant.now();
+    }
+
+    @Test
+    @DisplayName("저장 후 교체하면 직전 해시로 교체 시각을 조회할 수 있다")
+    void saveRotateAndFindRotatedAt() {
+        String memberId = newMemberId();
+        Instant now = now();
+
+        store().save(memberId, hash("t1"), now.plus(Duration.ofHours(1)));
+        assertEquals(Optional.empty(), store().findRotatedAt(memberId, hash("t1")));
+
+        assertTrue(store().rotate(memberId, hash("t1"), hash("t2"), now.plus(Duration.ofHours(2)), now));
+        assertEquals(Optional.of(millis(now)), store().findRotatedAt(memberId, hash("t1")));
+        assertEquals(Optional.empty(), store().findRotatedAt(memberId, hash("t2")));
+
+        // 교체된 토큰으로는 다시 교체할 수 없고, 새 토큰으로는 교체할 수 있다
+        assertFalse(store().rotate(memberId, hash("t1"), hash("t3"), now.plus(Duration.ofHours(2)), now));
+        assertTrue(store().rotate(memberId, hash("t2"), hash("t3"), now.plus(Duration.ofHours(2)), now));
+    }
+
+    @Test
+    @DisplayName("다시 저장하면 교체 이력이 초기화된다")
+    void saveResetsRotationHistory() {
+        String memberId = newMemberId();
+        Instant now = now();
+
+        store().save(memberId, hash("t1"), now.plus(Duration.ofHours(1)));
+        assertTrue(store().rotate(memberId, hash("t1"), hash("t2"), now.plus(Duration.ofHours(1)), now));
+
+        // 재로그인 이전 세션의 토큰은 재사용 감지 대상이 아니어야 한다
+        store().save(memberId, hash("t3"), now.plus(Duration.ofHours(1)));
+        assertEquals(Optional.empty(), store().findRotatedAt(memberId, hash("t1")));
+        assertTrue(store().rotate(memberId, hash("t3"), hash("t4"), now.plus(Duration.ofHours(1)), now));
+    }
+
+    @Test
+    @DisplayName("해시가 다르거나 만료되었거나 저장되지 않은 회원이면 교체하지 않는다")
+    void rotateRejectsWrongHashExpiredTokenAndUnknownMember() {
+        String memberId = newMemberId();
+        Instant now = now();
+        Instant expiry = now.plus(Duration.ofSeconds(1));
+
+        store().save(memberId, hash("t1"), expiry);
+
+        assertFalse(store().rotate(memberId, hash("wrong"), hash("t2"), now.plus(Duration.ofHours(1)), now));
+        assertFalse(store().rotate(memberId, hash("t1"), hash("t2"), now.plus(Duration.ofHours(1)), expiry));
+        assertFalse(store().rotate(newMemberId(), hash("t1"), hash("t2"), now.plus(Duration.ofHours(1)), now));
+
+        // 실패한 교체는 저장된 토큰을 바꾸지 않는다
+        assertTrue(store().rotate(memberId, hash("t1"), hash("t2"), now.plus(Duration.ofHours(1)), now));
+    }
+
+    @Test
+    @DisplayName("삭제하면 교체와 교체 시각 조회가 모두 실패하고, 다시 저장할 수 있다")
+    void deleteThenSaveAgain() {
+        String memberId = newMemberId();
+        Instant now = now();
+        Instant expiry = now.plus(Duration.ofHours(1));
+
+        store().save(memberId, hash("t1"), expiry);
+        assertTrue(store().rotate(memberId, hash("t1"), hash("t2"), expiry, now));
+
+        store().delete(memberId);
+        assertFalse(store().rotate(memberId, hash("t2"), hash("t3"), expiry, now));
+        assertEquals(Optional.empty(), store().findRotatedAt(memberId, hash("t1")));
+
+        store().save(memberId, hash("t4"), expiry);
+        assertTrue(store().rotate(memberId, hash("t4"), hash("t5"), expiry, now));
+    }
+
+    protected static String newMemberId() {
+        return new ObjectId().toHexString();
+    }
+
+    protected static String hash(String token) {
+        return HashUtils.sha256Hex(token);
+    }
+
+    // 저장소는 밀리초 단위로 기록
+    protected static Instant millis(Instant instant) {
+        return Instant.ofEpochMilli(instant.toEpochMilli());
+    }
+}